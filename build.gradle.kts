@@ -7,6 +7,7 @@ plugins {
     alias(libs.plugins.jagr.gradle)
     alias(libs.plugins.javafx)
     alias(libs.plugins.algomate)
+    alias(libs.plugins.jmh)
 }
 
 version = file("version").readLines().first()
@@ -69,12 +70,22 @@ tasks {
             throw GradleException("Public tests will be released soon.")
         }
     }
+    register<JavaExec>("runTournament") {
+        group = "application"
+        description = "Plays AI-only games on all cores, e.g. --args=\"--games 1000 --seed 42\""
+        mainClass.set("hProjekt.controller.TournamentRunner")
+        classpath = sourceSets.main.get().runtimeClasspath
+    }
     javadoc {
         options.jFlags?.add("-Duser.language=en")
         options.optionFiles = mutableListOf(project.file("src/main/javadoc.options"))
     }
 }
 
+jmh {
+    jmhVersion.set("1.37")
+}
+
 javafx {
     version = "23"
     modules("javafx.controls", "javafx.graphics", "javafx.base", "javafx.fxml", "javafx.swing", "javafx.media")
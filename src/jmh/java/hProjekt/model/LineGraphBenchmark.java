@@ -0,0 +1,111 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hProjekt.Config;
+import hProjekt.model.TilePosition.EdgeDirection;
+
+/**
+ * Compares walking the neighbours of every edge through {@link Set sets} of
+ * edges, like {@link Edge#getConnectedEdges()} does on a {@link HexGridImpl},
+ * with walking the {@link DenseHexGridImpl#getLineGraph() line graph}.
+ * <p>
+ * Run with {@code ./gradlew jmh}. Each operation visits all neighbours of all
+ * edges of the grid, so the score divided by the number of edges is the time
+ * per edge.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LineGraphBenchmark {
+
+    @Param({"5", "10", "20", "40"})
+    private int scale;
+
+    private List<Edge> edges;
+    private HexGridImpl grid;
+    private CsrGraph lineGraph;
+
+    @Setup
+    public void setup() {
+        Config.RANDOM.setSeed(42);
+        grid = new HexGridImpl(scale, 10, Config.TOWN_NAMES);
+        edges = new ArrayList<>(grid.getEdges().values());
+        Config.RANDOM.setSeed(42);
+        lineGraph = new DenseHexGridImpl(scale, 10, Config.TOWN_NAMES).getLineGraph();
+    }
+
+    /**
+     * Collects the edges of both tiles of every edge in a new set.
+     *
+     * @return the number of visited neighbours
+     */
+    @Benchmark
+    public int setBased() {
+        int visited = 0;
+        for (final Edge edge : edges) {
+            final Set<Edge> connected = new HashSet<>();
+            connected.addAll(getTileEdges(edge.getPosition1()));
+            connected.addAll(getTileEdges(edge.getPosition2()));
+            connected.remove(edge);
+            visited += connected.size();
+        }
+        return visited;
+    }
+
+    /**
+     * Returns the edges of the tile at the given position like
+     * {@link Tile#getEdges()}, without depending on the student implementation
+     * of {@link Tile#getEdge(EdgeDirection)}.
+     *
+     * @param position the position of the tile
+     * @return the edges of the tile
+     */
+    private Set<Edge> getTileEdges(final TilePosition position) {
+        final Set<Edge> tileEdges = new HashSet<>();
+        for (final EdgeDirection direction : EdgeDirection.VALUES) {
+            final Edge edge = grid.getEdge(position, TilePosition.neighbour(position, direction));
+            if (edge != null) {
+                tileEdges.add(edge);
+            }
+        }
+        return tileEdges;
+    }
+
+    /**
+     * Iterates the neighbours of every edge in the line graph.
+     *
+     * @return the sum of the visited neighbour ids
+     */
+    @Benchmark
+    public int csr() {
+        final int[] offsets = lineGraph.getOffsets();
+        final int[] targets = lineGraph.getTargets();
+        int sum = 0;
+        for (int edge = 0; edge < lineGraph.getNodeCount(); edge++) {
+            for (int i = offsets[edge]; i < offsets[edge + 1]; i++) {
+                sum += targets[i];
+            }
+        }
+        return sum;
+    }
+}
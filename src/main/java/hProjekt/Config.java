@@ -12,6 +12,7 @@ import java.util.Set;
 
 import hProjekt.controller.AiController;
 import hProjekt.controller.BasicAiController;
+import hProjekt.controller.GameScheduler;
 import hProjekt.model.Tile;
 import javafx.util.Pair;
 
@@ -103,6 +104,11 @@ public class Config {
      */
     public static int MAX_RENTABLE_DISTANCE = 10;
 
+    /**
+     * The maximum number of driving paths cached per map.
+     */
+    public static int PATH_CACHE_SIZE = 256;
+
     /**
      * A map storing information on how much it costs to build a rail between two
      * tiles depending on their type.
@@ -138,6 +144,42 @@ public class Config {
      */
     public static Path CSV_PATH = Paths.get("src/main/resources/leaderboard.csv");
 
+    /**
+     * The number of milliseconds an AI waits before each decision, so that human
+     * players can follow its moves.
+     */
+    public static long AI_ACTION_DELAY = 100;
+
+    /**
+     * Whether new games start in turbo mode.
+     * In turbo mode the AI controllers decide without waiting for
+     * {@link #AI_ACTION_DELAY}, and the board shows the dice, the chosen cities
+     * and the trains without animations. The turbo mode of a running game is
+     * toggled on the game board.
+     */
+    public static boolean TURBO_MODE = false;
+
+    /**
+     * The number of threads the AI controllers of a game decide on.
+     */
+    public static int AI_THREADS = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The number of milliseconds a single decision of an AI may take before it is
+     * interrupted, its actions are discarded and a fallback action is taken
+     * instead.
+     */
+    public static long AI_DECISION_TIME_BUDGET = 5000;
+
+    /**
+     * The scheduler that starts the game loops of
+     * {@link hProjekt.controller.GameController#startGameLoop()}.
+     * Game loops run on virtual threads, so that paused games do not occupy a
+     * platform thread. The game of the GUI is started by {@link MyApplication}
+     * on its own platform thread.
+     */
+    public static GameScheduler GAME_SCHEDULER = GameScheduler.virtualThreads();
+
     /**
      * A set of AI controllers that are available for the game.
      */
@@ -1,8 +1,14 @@
 package hProjekt.controller;
 
+import java.util.concurrent.atomic.AtomicLong;
+
+import hProjekt.controller.actions.PlayerAction;
+import hProjekt.controller.events.PlayerStateChangedEvent;
 import hProjekt.model.City;
+import hProjekt.model.DriveForecast;
 import hProjekt.model.GameState;
 import hProjekt.model.HexGrid;
+import hProjekt.model.PlayerState;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.Property;
 import javafx.beans.property.ReadOnlyProperty;
@@ -12,20 +18,37 @@ import javafx.util.Pair;
  * Represents an AI controller that can execute actions based on a player's
  * objective.
  * Gets all information that could be needed to execute actions.
- * Automatically subscribes to the player objective property to execute actions
- * when the player's objective changes.
+ * Automatically subscribes to the {@link PlayerStateChangedEvent}s of the
+ * player to execute actions when the player's state changes.
+ * <p>
+ * The decisions run on the {@link AiExecutionService} of the game, not on the
+ * thread of the game loop. Actions should be triggered with
+ * {@link #triggerAction(PlayerAction)}, which discards them if the state the AI
+ * decided on has been superseded in the meantime.
+ * <p>
+ * The game loop keeps changing the grid while the AI decides, and the indices of
+ * the grid are not thread-safe. Decisions should therefore only rely on the
+ * snapshot returned by {@link #getDecisionState()} and on the forecast returned
+ * by {@link #getDriveForecast()}.
  */
 public abstract class AiController {
     protected final PlayerController playerController;
     protected final HexGrid hexGrid;
     protected final GameState gameState;
     protected final Property<PlayerController> activePlayerController;
+    private final AiExecutionService executionService;
+    private volatile DriveForecast driveForecast;
+
+    /**
+     * The version of the last state submitted to the execution service.
+     */
+    final AtomicLong stateVersion = new AtomicLong();
 
     /**
      * Creates a new AI controller with the given player controller, hex grid, game
      * state and active player controller.
-     * Adds a subscription to the player objective property to execute actions when
-     * the player's objective changes.
+     * Adds a subscription to the state changes of the player to submit every
+     * state to the execution service of the game.
      *
      * @param playerController       the player controller
      * @param hexGrid                the hex grid
@@ -40,13 +63,55 @@ public abstract class AiController {
         this.hexGrid = hexGrid;
         this.gameState = gameState;
         this.activePlayerController = activePlayerController;
-        playerController.getPlayerStateProperty()
-                .subscribe(state -> this.executeActionBasedOnObjective(state.playerObjective()));
+        this.executionService = playerController.getAiExecutionService();
+        playerController.getEventBus().subscribe(PlayerStateChangedEvent.class, event -> {
+            if (event.player().equals(playerController.getPlayer())) {
+                if (event.state().playerObjective() == PlayerObjective.DRIVE) {
+                    driveForecast = playerController.getDriveForecast();
+                }
+                executionService.submit(this, event.state());
+            }
+        });
+    }
+
+    /**
+     * Triggers the given action for the player of this AI controller.
+     * The action is discarded if the decision that triggers it is stale.
+     *
+     * @param action the action to trigger
+     * @see AiExecutionService
+     */
+    protected void triggerAction(final PlayerAction action) {
+        executionService.post(this, action);
+    }
+
+    /**
+     * Returns the snapshot of the player's state the current decision is about.
+     * Outside of a decision, the current state of the player is returned.
+     *
+     * @return the snapshot of the player's state
+     */
+    protected PlayerState getDecisionState() {
+        return executionService.getDecisionState(this);
+    }
+
+    /**
+     * Returns the drive forecast of the player for the last submitted state with
+     * the objective {@link PlayerObjective#DRIVE}.
+     * The forecast is computed on the thread of the game loop when the state is
+     * submitted, so it can be read by the decisions.
+     *
+     * @return the drive forecast or {@code null} if there is none
+     * @see PlayerController#getDriveForecast()
+     */
+    protected DriveForecast getDriveForecast() {
+        return driveForecast;
     }
 
     /**
      * Executes an action that is allowed by the given player objective.
      * May perform multiple actions if necessary and allowed.
+     * Is called on a worker thread of the {@link AiExecutionService}.
      *
      * @param objective the player objective
      */
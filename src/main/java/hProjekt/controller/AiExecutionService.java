@@ -0,0 +1,398 @@
+package hProjekt.controller;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import hProjekt.Config;
+import hProjekt.controller.actions.ChooseCitiesAction;
+import hProjekt.controller.actions.ChooseRailsAction;
+import hProjekt.controller.actions.ConfirmBuildAction;
+import hProjekt.controller.actions.ConfirmDrive;
+import hProjekt.controller.actions.DriveAction;
+import hProjekt.controller.actions.PlayerAction;
+import hProjekt.controller.actions.RollDiceAction;
+import hProjekt.model.GameConfig;
+import hProjekt.model.PlayerState;
+import hProjekt.model.Tile;
+
+/**
+ * Runs the decisions of {@link AiController}s off the thread of the game loop.
+ * <p>
+ * Every state an AI controller observes is submitted as a snapshot and queued
+ * for a pool of worker threads, so the game loop only pays for enqueueing it.
+ * Every game gets its service from its {@link GameConfig}. Idle threads are
+ * stopped after a second, so the service of a finished game does not have to
+ * be shut down. The delay of {@link Config#AI_ACTION_DELAY} is waited for
+ * before the decision is queued and does not occupy a worker. Games in
+ * {@link GameConfig#isTurboMode() turbo mode} skip the delay. A decision
+ * that runs longer than the time budget is interrupted.
+ * <p>
+ * A decision is stale once a newer state of its player has been submitted or
+ * once it exceeded its time budget. Stale decisions are not started, and the
+ * actions they trigger through {@link AiController#triggerAction(PlayerAction)}
+ * are discarded instead of being posted to the player controller.
+ * <p>
+ * The game loop waits for the action of a decision. If a decision fails with an
+ * exception or exceeds its time budget before it triggered an action, the
+ * {@link #getFallbackAction(PlayerState) fallback action} for its objective is
+ * posted instead, unless a newer state has been submitted in the meantime.
+ * <p>
+ * The workers only get the snapshot of the state. The grid and its indices are
+ * changed by the game loop and must not be read by the decisions, see
+ * {@link AiController#getDecisionState()}.
+ * <p>
+ * The numbers of decisions, stale decisions, discarded actions, failed
+ * decisions, decisions that exceeded their budget and fallback actions are
+ * counted. The exception of the last failed decision is kept.
+ */
+public class AiExecutionService {
+
+    /**
+     * The time after which idle threads are stopped, in seconds.
+     */
+    private static final long KEEP_ALIVE_SECONDS = 1;
+
+    private final ThreadPoolExecutor workers;
+    private final ScheduledThreadPoolExecutor timer;
+    private final long timeBudgetNanos;
+    private final ThreadLocal<Decision> currentDecision = new ThreadLocal<>();
+    private final AtomicLong decisions = new AtomicLong();
+    private final AtomicLong staleDecisions = new AtomicLong();
+    private final AtomicLong discardedActions = new AtomicLong();
+    private final AtomicLong timedOutDecisions = new AtomicLong();
+    private final AtomicLong failedDecisions = new AtomicLong();
+    private final AtomicLong fallbackActions = new AtomicLong();
+    private volatile RuntimeException lastFailure;
+
+    /**
+     * A decision of an AI controller about a snapshot of its player's state.
+     */
+    private final class Decision implements Runnable {
+        private final AiController aiController;
+        private final PlayerState state;
+        private final long version;
+        private volatile boolean expired = false;
+        private volatile boolean acted = false;
+        private volatile ScheduledFuture<?> timeout;
+
+        /**
+         * Creates a new decision about the given state.
+         *
+         * @param aiController the AI controller that decides
+         * @param state        the snapshot of the player's state
+         * @param version      the version of the state
+         */
+        private Decision(final AiController aiController, final PlayerState state, final long version) {
+            this.aiController = aiController;
+            this.state = state;
+            this.version = version;
+        }
+
+        /**
+         * Returns whether the state was superseded or the decision exceeded its time
+         * budget.
+         *
+         * @return whether the decision is stale
+         */
+        private boolean isStale() {
+            return expired || isSuperseded();
+        }
+
+        /**
+         * Returns whether a newer state of the player has been submitted.
+         *
+         * @return whether the state was superseded
+         */
+        private boolean isSuperseded() {
+            return aiController.stateVersion.get() != version;
+        }
+
+        /**
+         * Marks the decision as having triggered an action, unless it is stale.
+         *
+         * @return whether the action may be posted
+         */
+        private synchronized boolean act() {
+            if (isStale()) {
+                return false;
+            }
+            acted = true;
+            return true;
+        }
+
+        /**
+         * Marks the decision as expired, so its later actions are discarded.
+         *
+         * @return whether the decision was not expired before
+         */
+        private synchronized boolean expire() {
+            if (expired) {
+                return false;
+            }
+            expired = true;
+            return true;
+        }
+
+        @Override
+        public void run() {
+            if (isStale()) {
+                staleDecisions.incrementAndGet();
+                return;
+            }
+            currentDecision.set(this);
+            try {
+                decide();
+            } finally {
+                currentDecision.remove();
+                final ScheduledFuture<?> scheduledTimeout = timeout;
+                if (scheduledTimeout != null) {
+                    scheduledTimeout.cancel(false);
+                }
+            }
+        }
+
+        /**
+         * Lets the AI controller act on the objective of the state.
+         */
+        private void decide() {
+            decisions.incrementAndGet();
+            try {
+                aiController.executeActionBasedOnObjective(state.playerObjective());
+            } catch (final RuntimeException e) {
+                if (expire()) {
+                    failedDecisions.incrementAndGet();
+                    lastFailure = e;
+                    postFallbackAction(this);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a new service with the given number of worker threads.
+     * No threads are started until the first decision is submitted.
+     *
+     * @param threads    the number of decisions that can run at the same time
+     * @param timeBudget the maximum time a single decision may take
+     * @throws IllegalArgumentException if the number of threads or the time budget
+     *                                  is not positive
+     */
+    public AiExecutionService(final int threads, final Duration timeBudget) {
+        if (threads <= 0 || timeBudget.isNegative() || timeBudget.isZero()) {
+            throw new IllegalArgumentException("The number of threads and the time budget must be positive");
+        }
+        final AtomicInteger workerCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    final Thread thread = new Thread(runnable, "AiWorker-" + workerCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "AiTimer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+        this.timer.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        this.workers.allowCoreThreadTimeOut(true);
+        this.timer.allowCoreThreadTimeOut(true);
+        this.timeBudgetNanos = timeBudget.toNanos();
+    }
+
+    /**
+     * Submits a snapshot of the state of the player of the given AI controller.
+     * All earlier decisions of the AI controller become stale.
+     *
+     * @param aiController the AI controller that decides
+     * @param state        the snapshot of the player's state
+     */
+    public void submit(final AiController aiController, final PlayerState state) {
+        final long version = aiController.stateVersion.incrementAndGet();
+        final Decision decision = new Decision(aiController, state, version);
+        final long delay = aiController.playerController.getConfig().isTurboMode() ? 0 : Config.AI_ACTION_DELAY;
+        if (delay > 0) {
+            timer.schedule(() -> dispatch(decision), delay, TimeUnit.MILLISECONDS);
+        } else {
+            dispatch(decision);
+        }
+    }
+
+    /**
+     * Queues the given decision for the workers unless it is already stale and
+     * enforces its time budget.
+     *
+     * @param decision the decision
+     */
+    private void dispatch(final Decision decision) {
+        if (decision.isStale()) {
+            staleDecisions.incrementAndGet();
+            return;
+        }
+        final Future<?> future = workers.submit(decision);
+        decision.timeout = timer.schedule(() -> {
+            if (!future.isDone() && decision.expire()) {
+                timedOutDecisions.incrementAndGet();
+                future.cancel(true);
+                postFallbackAction(decision);
+            }
+        }, timeBudgetNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Posts the given action to the player controller of the given AI controller,
+     * unless it is triggered by a stale decision.
+     *
+     * @param aiController the AI controller that triggers the action
+     * @param action       the action
+     */
+    void post(final AiController aiController, final PlayerAction action) {
+        final Decision decision = currentDecision.get();
+        if (decision != null && decision.aiController == aiController && !decision.act()) {
+            discardedActions.incrementAndGet();
+            return;
+        }
+        aiController.playerController.triggerAction(action);
+    }
+
+    /**
+     * Posts the fallback action for the state of the given expired decision,
+     * unless the decision already triggered an action or its state was
+     * superseded.
+     *
+     * @param decision the decision that failed or exceeded its time budget
+     */
+    private void postFallbackAction(final Decision decision) {
+        if (decision.acted || decision.isSuperseded()) {
+            return;
+        }
+        final PlayerAction action = getFallbackAction(decision.state);
+        if (action != null) {
+            fallbackActions.incrementAndGet();
+            decision.aiController.playerController.triggerAction(action);
+        }
+    }
+
+    /**
+     * Returns the action that ends the turn of a player in the given state
+     * without making a choice: confirming the build, rolling the dice, letting
+     * the game choose the cities, renting no rails and confirming the path.
+     * While driving, the player drives to the drivable tile with the lowest
+     * position.
+     *
+     * @param state the state of the player
+     * @return the fallback action or {@code null} if there is nothing to do
+     */
+    static PlayerAction getFallbackAction(final PlayerState state) {
+        return switch (state.playerObjective()) {
+            case PLACE_RAIL -> new ConfirmBuildAction();
+            case ROLL_DICE -> new RollDiceAction();
+            case CHOOSE_CITIES -> new ChooseCitiesAction();
+            case CHOOSE_PATH -> new ChooseRailsAction(Set.of());
+            case CONFIRM_PATH -> new ConfirmDrive(true);
+            case DRIVE -> state.drivableTiles().keySet().stream().min(Comparator.comparing(Tile::getPosition))
+                    .map(DriveAction::new).orElse(null);
+            case IDLE -> null;
+        };
+    }
+
+    /**
+     * Returns the snapshot of the state the given AI controller is deciding on.
+     * Outside of a decision, the current state of its player is returned.
+     *
+     * @param aiController the AI controller
+     * @return the snapshot of the player's state
+     */
+    PlayerState getDecisionState(final AiController aiController) {
+        final Decision decision = currentDecision.get();
+        if (decision != null && decision.aiController == aiController) {
+            return decision.state;
+        }
+        return aiController.playerController.getPlayerState();
+    }
+
+    /**
+     * Returns the number of decisions that were started.
+     *
+     * @return the number of decisions
+     */
+    public long getDecisionCount() {
+        return decisions.get();
+    }
+
+    /**
+     * Returns the number of decisions that were not started because they were
+     * stale.
+     *
+     * @return the number of stale decisions
+     */
+    public long getStaleDecisionCount() {
+        return staleDecisions.get();
+    }
+
+    /**
+     * Returns the number of actions that were discarded because the decision that
+     * triggered them was stale.
+     *
+     * @return the number of discarded actions
+     */
+    public long getDiscardedActionCount() {
+        return discardedActions.get();
+    }
+
+    /**
+     * Returns the number of decisions that exceeded their time budget.
+     *
+     * @return the number of decisions that exceeded their time budget
+     */
+    public long getTimedOutDecisionCount() {
+        return timedOutDecisions.get();
+    }
+
+    /**
+     * Returns the number of decisions that failed with an exception.
+     * Exceptions of decisions that exceeded their time budget are not counted.
+     *
+     * @return the number of failed decisions
+     */
+    public long getFailedDecisionCount() {
+        return failedDecisions.get();
+    }
+
+    /**
+     * Returns the number of fallback actions posted for decisions that failed or
+     * exceeded their time budget.
+     *
+     * @return the number of fallback actions
+     */
+    public long getFallbackActionCount() {
+        return fallbackActions.get();
+    }
+
+    /**
+     * Returns the exception of the last failed decision.
+     *
+     * @return the exception of the last failed decision or {@code null} if no
+     *         decision failed
+     */
+    public RuntimeException getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * Stops the workers and interrupts all running decisions.
+     */
+    public void shutdown() {
+        workers.shutdownNow();
+        timer.shutdownNow();
+    }
+}
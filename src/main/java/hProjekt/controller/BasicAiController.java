@@ -1,9 +1,10 @@
 package hProjekt.controller;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
-import hProjekt.Config;
 import hProjekt.controller.actions.BuildRailAction;
 import hProjekt.controller.actions.ChooseCitiesAction;
 import hProjekt.controller.actions.ChooseRailsAction;
@@ -13,9 +14,12 @@ import hProjekt.controller.actions.DriveAction;
 import hProjekt.controller.actions.PlayerAction;
 import hProjekt.controller.actions.RollDiceAction;
 import hProjekt.model.City;
+import hProjekt.model.DriveForecast;
 import hProjekt.model.Edge;
+import hProjekt.model.GameConfig;
 import hProjekt.model.GameState;
 import hProjekt.model.HexGrid;
+import hProjekt.model.PlayerState;
 import hProjekt.model.Tile;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.Property;
@@ -24,14 +28,22 @@ import javafx.util.Pair;
 
 /**
  * A basic AI controller as an example for how to implement an AI controller.
+ * It picks its moves at random from the {@link GameConfig#getRandom()
+ * generator} of the game. The candidates are sorted by their position first, so
+ * that a seeded game is reproducible.
+ * When driving, it only picks from the tiles with the largest driving cost
+ * according to the {@link AiController#getDriveForecast() drive forecast},
+ * so it drives as far as the dice roll allows.
+ * It triggers a single action per decision and otherwise only reads the
+ * snapshot of the state it decides on.
  */
 public class BasicAiController extends AiController {
 
     /**
      * Creates a new basic AI controller with the given player controller, hex grid,
      * game state and active player controller.
-     * Adds a subscription to the player objective property to execute actions when
-     * the player's objective changes.
+     * Adds a subscription to the state changes of the player to execute actions
+     * when the player's state changes.
      *
      * @param playerController       the player controller
      * @param hexGrid                the hex grid
@@ -47,43 +59,46 @@ public class BasicAiController extends AiController {
 
     @Override
     protected void executeActionBasedOnObjective(PlayerObjective objective) {
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            throw new RuntimeException("Main thread was interrupted", e);
-        }
-
-        final Set<Class<? extends PlayerAction>> allowedActions = playerController.getPlayerObjective()
-                .getAllowedActions();
+        final PlayerState state = getDecisionState();
+        final Set<Class<? extends PlayerAction>> allowedActions = objective.getAllowedActions();
         if (allowedActions.contains(RollDiceAction.class)) {
-            playerController.triggerAction(new RollDiceAction());
-        }
-        if (allowedActions.contains(BuildRailAction.class)
-                && !playerController.getPlayerState().buildableRailEdges().isEmpty()) {
-            int randomIndex = Config.RANDOM.nextInt(playerController.getPlayerState().buildableRailEdges().size());
-            playerController.triggerAction(new BuildRailAction(
-                    List.of(playerController.getPlayerState().buildableRailEdges()
-                            .toArray(Edge[]::new)[randomIndex])));
-        }
-        if (allowedActions.contains(ConfirmBuildAction.class) && playerController.getPlayerState().buildableRailEdges()
-                .isEmpty()) {
-            playerController.triggerAction(new ConfirmBuildAction());
-        }
-        if (allowedActions.contains(ChooseCitiesAction.class)) {
-            playerController.triggerAction(new ChooseCitiesAction());
-        }
-        if (allowedActions.contains(ConfirmDrive.class)) {
-            playerController.triggerAction(new ConfirmDrive(true));
+            triggerAction(new RollDiceAction());
+        } else if (allowedActions.contains(BuildRailAction.class)
+                && !state.buildableRailEdges().isEmpty()) {
+            final List<Edge> edges = state.buildableRailEdges().stream()
+                    .sorted(Comparator.comparing(Edge::getPosition1).thenComparing(Edge::getPosition2)).toList();
+            int randomIndex = playerController.getConfig().getRandom().nextInt(edges.size());
+            triggerAction(new BuildRailAction(List.of(edges.get(randomIndex))));
+        } else if (allowedActions.contains(ConfirmBuildAction.class)) {
+            triggerAction(new ConfirmBuildAction());
+        } else if (allowedActions.contains(ChooseCitiesAction.class)) {
+            triggerAction(new ChooseCitiesAction());
+        } else if (allowedActions.contains(ConfirmDrive.class)) {
+            triggerAction(new ConfirmDrive(true));
+        } else if (allowedActions.contains(DriveAction.class)) {
+            final List<Tile> tiles = farthestTiles(state.drivableTiles().keySet()).stream()
+                    .sorted(Comparator.comparing(Tile::getPosition)).toList();
+            int randomIndex = playerController.getConfig().getRandom().nextInt(tiles.size());
+            triggerAction(new DriveAction(tiles.get(randomIndex)));
+        } else if (allowedActions.contains(ChooseRailsAction.class)) {
+            triggerAction(new ChooseRailsAction(Set.of()));
         }
-        if (allowedActions.contains(DriveAction.class)) {
-            int randomIndex = Config.RANDOM.nextInt(playerController.getPlayerState().drivableTiles().size());
-            playerController
-                    .triggerAction(new DriveAction(
-                            playerController.getPlayerState().drivableTiles().keySet()
-                                    .toArray(Tile[]::new)[randomIndex]));
-        }
-        if (allowedActions.contains(ChooseRailsAction.class)) {
-            playerController.triggerAction(new ChooseRailsAction(Set.of()));
+    }
+
+    /**
+     * Returns the given tiles with the largest driving cost from the player's
+     * position.
+     * All tiles are returned if there is no drive forecast.
+     *
+     * @param tiles the tiles the player can drive to
+     * @return the tiles with the largest driving cost
+     */
+    private Set<Tile> farthestTiles(final Set<Tile> tiles) {
+        final DriveForecast forecast = getDriveForecast();
+        if (forecast == null) {
+            return tiles;
         }
+        final int maxCost = tiles.stream().mapToInt(forecast::getCost).max().orElse(-1);
+        return tiles.stream().filter(tile -> forecast.getCost(tile) == maxCost).collect(Collectors.toSet());
     }
 }
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.function.Supplier;
 
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
@@ -13,7 +14,11 @@ import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
 import hProjekt.Config;
 import hProjekt.controller.actions.ConfirmBuildAction;
 import hProjekt.controller.actions.PlayerAction;
+import hProjekt.controller.events.DiceRolledEvent;
+import hProjekt.controller.events.GameEventBridge;
+import hProjekt.controller.events.GameEventBus;
 import hProjekt.model.City;
+import hProjekt.model.GameConfig;
 import hProjekt.model.GameState;
 import hProjekt.model.HexGrid;
 import hProjekt.model.HexGridImpl;
@@ -30,9 +35,19 @@ import javafx.util.Pair;
  * It manages the game state, player controllers, dice rolling and the overall
  * progression of the game.
  * It tells the players controllers what to do and when to do it.
+ * <p>
+ * Every change of the properties of the game is also published as an event on
+ * the {@link GameEventBus} of the game by a {@link GameEventBridge}, so
+ * listeners can follow the game without depending on JavaFX.
+ * <p>
+ * The game loop is started on a thread of a {@link GameScheduler}, by default
+ * a virtual thread. AI controllers decide on the threads of the
+ * {@link AiExecutionService} of the {@link GameConfig} and post their actions
+ * back to the game loop.
  */
 public class GameController {
     private final GameState state;
+    private final GameConfig config;
     private final Map<Player, PlayerController> playerControllers;
     private final List<AiController> aiControllers = new ArrayList<>();
     private final Supplier<Integer> dice;
@@ -42,7 +57,10 @@ public class GameController {
 
     private final Property<PlayerController> activePlayerController = new SimpleObjectProperty<>();
 
+    private final GameEventBus eventBus = new GameEventBus();
+
     private boolean stopped = false;
+    private GameScheduler scheduler = Config.GAME_SCHEDULER;
 
     /**
      * Creates a new GameController with the given game state and dice supplier.
@@ -52,8 +70,10 @@ public class GameController {
      */
     public GameController(GameState state, Supplier<Integer> dice) {
         this.state = state;
+        this.config = GameConfig.of(state.getGrid());
         this.playerControllers = new HashMap<>();
         this.dice = dice;
+        GameEventBridge.bridge(eventBus, state, roundCounter, chosenCitiesProperty, activePlayerController);
     }
 
     /**
@@ -62,7 +82,17 @@ public class GameController {
      * @param state the game state
      */
     public GameController(GameState state) {
-        this(state, () -> Config.RANDOM.nextInt(1, Config.DICE_SIDES + 1));
+        this(state, randomDice(GameConfig.of(state.getGrid())));
+    }
+
+    /**
+     * Creates a new GameController with a new game state for the given
+     * configuration and a random dice supplier.
+     *
+     * @param config the configuration of the game
+     */
+    public GameController(GameConfig config) {
+        this(new GameState(new HexGridImpl(config, Config.TOWN_NAMES), new ArrayList<>()));
     }
 
     /**
@@ -70,8 +100,20 @@ public class GameController {
      * supplier.
      */
     public GameController() {
-        this(new GameState(new HexGridImpl(Config.TOWN_NAMES), new ArrayList<>()),
-                () -> Config.RANDOM.nextInt(1, Config.DICE_SIDES + 1));
+        this(new GameState(new HexGridImpl(Config.TOWN_NAMES), new ArrayList<>()));
+    }
+
+    /**
+     * Returns a dice supplier that rolls a die with the sides of the given
+     * configuration.
+     *
+     * @param config the configuration of the game
+     * @return the dice supplier
+     */
+    private static Supplier<Integer> randomDice(GameConfig config) {
+        final int sides = config.getDiceSides();
+        final Random random = config.getRandom();
+        return () -> random.nextInt(1, sides + 1);
     }
 
     /**
@@ -92,6 +134,52 @@ public class GameController {
         return playerControllers;
     }
 
+    /**
+     * Returns the configuration the game was created with.
+     *
+     * @return the configuration of the game
+     */
+    public GameConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Returns the scheduler that starts the game loop.
+     *
+     * @return the scheduler
+     */
+    public GameScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Sets the scheduler that starts the game loop.
+     * Defaults to {@link Config#GAME_SCHEDULER}.
+     *
+     * @param scheduler the scheduler
+     */
+    public void setScheduler(GameScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Returns the service the AI controllers of the game decide on.
+     *
+     * @return the AI execution service
+     */
+    public AiExecutionService getAiExecutionService() {
+        return config.getAiExecutionService();
+    }
+
+    /**
+     * Returns the bus the game publishes its events on.
+     *
+     * @return the event bus
+     */
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+
     /**
      * Returns a property that contains the active player controller.
      *
@@ -137,6 +225,15 @@ public class GameController {
         return roundCounter;
     }
 
+    /**
+     * Returns the current round.
+     *
+     * @return the current round
+     */
+    public int getRoundCounter() {
+        return roundCounter.get();
+    }
+
     /**
      * Returns the chosen cities property that contains the starting and target city
      * as a javaFX Pair.
@@ -172,6 +269,8 @@ public class GameController {
      */
     public int castDice() {
         currentDiceRoll.set(dice.get());
+        // published directly, the property does not change if the same value is rolled again
+        eventBus.publish(new DiceRolledEvent(currentDiceRoll.get()));
         return currentDiceRoll.get();
     }
 
@@ -189,6 +288,7 @@ public class GameController {
     private void initPlayerControllers() {
         for (Player player : state.getPlayers()) {
             playerControllers.put(player, new PlayerController(this, player));
+            GameEventBridge.bridge(eventBus, playerControllers.get(player));
             if (player.isAi()) {
                 try {
                     aiControllers.add(player.getAiController()
@@ -216,6 +316,16 @@ public class GameController {
         }
     }
 
+    /**
+     * Runs {@link #startGame()} on a new thread of the {@link #getScheduler()
+     * scheduler} and returns immediately.
+     *
+     * @return the thread of the game loop
+     */
+    public Thread startGameLoop() {
+        return scheduler.start("GameLoopThread", this::startGame);
+    }
+
     /**
      * Starts the game and handles the game loop.
      *
@@ -224,7 +334,7 @@ public class GameController {
      * @throws IllegalStateException if there are not enough playerss
      */
     public void startGame() {
-        if (this.state.getPlayers().size() < Config.MIN_PLAYERS) {
+        if (this.state.getPlayers().size() < config.getMinPlayers()) {
             throw new IllegalStateException("Not enough players");
         }
         if (playerControllers.isEmpty()) {
@@ -282,7 +392,7 @@ public class GameController {
         getState().getPlayers().stream().sorted((p1, p2) -> Integer.compare(p1.getCredits(), p2.getCredits()))
                 .forEachOrdered((player) -> {
                     final PlayerController pc = playerControllers.get(player);
-                    pc.setBuildingBudget(Config.MAX_BUILDINGBUDGET_DRIVING_PHASE);
+                    pc.setBuildingBudget(config.getMaxBuildingBudgetDrivingPhase());
                     waitForBuild(pc);
                 });
     }
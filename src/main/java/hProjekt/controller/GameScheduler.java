@@ -0,0 +1,59 @@
+package hProjekt.controller;
+
+import hProjekt.Config;
+
+/**
+ * Decides which threads the game loops run on.
+ * A game loop spends most of its time waiting for the next action of a player.
+ * <p>
+ * {@link #virtualThreads()} runs every game loop on its own virtual thread.
+ * A waiting game then only occupies its stack on the heap and no carrier
+ * thread, so a server can host thousands of paused games. The number of carrier
+ * threads is bounded by the JDK and can be configured per deployment with the
+ * system properties {@code jdk.virtualThreadScheduler.parallelism} and
+ * {@code jdk.virtualThreadScheduler.maxPoolSize}.
+ * {@link #platformThreads()} runs every game loop on its own daemon platform
+ * thread.
+ * <p>
+ * Only the game loops run on the threads of the scheduler. The decisions of
+ * the AI controllers run on the platform threads of the
+ * {@link AiExecutionService} of the game instead of virtual threads. A
+ * decision computes without waiting, so a virtual thread would not free its
+ * carrier thread, and the bounded pool limits how many decisions compete for
+ * the processors at once.
+ * <p>
+ * The scheduler used by new games is {@link Config#GAME_SCHEDULER}. It starts
+ * the game loops of {@link GameController#startGameLoop()}, for example of games
+ * hosted without the GUI. The GUI starts its game loop itself on a daemon
+ * platform thread.
+ */
+@FunctionalInterface
+public interface GameScheduler {
+
+    /**
+     * Starts the given task on a new thread with the given name.
+     *
+     * @param name the name of the thread
+     * @param task the task to run, for example a game loop
+     * @return the started thread
+     */
+    Thread start(String name, Runnable task);
+
+    /**
+     * Returns a scheduler that runs every task on a new virtual thread.
+     *
+     * @return the scheduler
+     */
+    static GameScheduler virtualThreads() {
+        return (name, task) -> Thread.ofVirtual().name(name).start(task);
+    }
+
+    /**
+     * Returns a scheduler that runs every task on a new daemon platform thread.
+     *
+     * @return the scheduler
+     */
+    static GameScheduler platformThreads() {
+        return (name, task) -> Thread.ofPlatform().name(name).daemon().start(task);
+    }
+}
@@ -1,6 +1,7 @@
 package hProjekt.controller;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -15,10 +16,15 @@ import java.util.stream.Collectors;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
 
-import hProjekt.Config;
 import hProjekt.controller.actions.IllegalActionException;
 import hProjekt.controller.actions.PlayerAction;
+import hProjekt.controller.events.GameEventBus;
+import hProjekt.model.City;
+import hProjekt.model.DenseHexGridImpl;
+import hProjekt.model.DrivableTiles;
+import hProjekt.model.DriveForecast;
 import hProjekt.model.Edge;
+import hProjekt.model.GameConfig;
 import hProjekt.model.GameState;
 import hProjekt.model.Player;
 import hProjekt.model.PlayerState;
@@ -57,6 +63,16 @@ public class PlayerController {
 
     private boolean hasConfirmedPath = false;
 
+    private DriveForecast driveForecast;
+
+    private TilePosition driveForecastPosition;
+
+    private City driveForecastTarget;
+
+    private Set<Edge> driveForecastRentedEdges;
+
+    private int driveForecastRailModifications;
+
     /**
      * Creates a new {@link PlayerController} with the given {@link GameController}
      * and {@link Player}.
@@ -82,6 +98,33 @@ public class PlayerController {
         return player;
     }
 
+    /**
+     * Returns the configuration of the game the player takes part in.
+     *
+     * @return the {@link GameConfig} of the game
+     */
+    public GameConfig getConfig() {
+        return gameController.getConfig();
+    }
+
+    /**
+     * Returns the service the AI controller of the player decides on.
+     *
+     * @return the {@link AiExecutionService} of the game
+     */
+    public AiExecutionService getAiExecutionService() {
+        return gameController.getAiExecutionService();
+    }
+
+    /**
+     * Returns the bus the game publishes its events on.
+     *
+     * @return the {@link GameEventBus} of the game
+     */
+    public GameEventBus getEventBus() {
+        return gameController.getEventBus();
+    }
+
     /**
      * Returns the {@link GameState}.
      *
@@ -370,12 +413,16 @@ public class PlayerController {
         if (player.getCredits() == 0 || !getState().getGamePhaseProperty().getValue().equals(GamePhase.DRIVING_PHASE)) {
             return Set.of();
         }
+        if (getState().getGrid() instanceof DenseHexGridImpl dense && dense.isIndexed()) {
+            return dense.getRentableEdgeSearch().search(player,
+                    Math.min(player.getCredits(), getConfig().getMaxRentableDistance()));
+        }
 
         Set<Edge> builtEdges = getState().getGrid().getRails(player).values().stream().collect(Collectors.toSet());
         Set<Edge> chooseableEdges = new HashSet<>();
         chooseableEdges.addAll(builtEdges.stream()
                 .flatMap(edge -> edge.getConnectedEdges().stream().filter(Edge::hasRail)
-                        .filter(e -> !e.getRailOwners().contains(player)))
+                        .filter(e -> !e.isRailOwner(player)))
                 .distinct().toList());
 
         if (chooseableEdges.isEmpty()) {
@@ -388,10 +435,10 @@ public class PlayerController {
             final Pair<Edge, Integer> currentPair = edgeQueue.removeFirst();
             for (Edge edge : currentPair.getKey().getConnectedEdges().stream()
                     .filter(Edge::hasRail)
-                    .filter(edge -> !edge.getRailOwners().contains(player))
+                    .filter(edge -> !edge.isRailOwner(player))
                     .filter(Predicate.not(chooseableEdges::contains)).toList()) {
                 int newDistance = currentPair.getValue() + 1;
-                if (newDistance <= Math.min(player.getCredits(), Config.MAX_RENTABLE_DISTANCE)) {
+                if (newDistance <= Math.min(player.getCredits(), getConfig().getMaxRentableDistance())) {
                     edgeQueue.add(new Pair<>(edge, newDistance));
                     chooseableEdges.add(edge);
                 }
@@ -417,7 +464,7 @@ public class PlayerController {
         if (!chooseableEdges.containsAll(edges)) {
             throw new IllegalActionException("Cannot choose edges");
         }
-        if (edges.size() > Config.MAX_RENTABLE_DISTANCE) {
+        if (edges.size() > getConfig().getMaxRentableDistance()) {
             throw new IllegalActionException("Cannot choose more than 10 edges");
         }
         if (edges.stream().reduce(0, (previous, edge) -> {
@@ -429,19 +476,36 @@ public class PlayerController {
         Set<Edge> allAvailableEdges = List.of(getState().getGrid().getRails(player).values(), edges).stream()
                 .flatMap(set -> set.stream())
                 .filter(Edge::hasRail).collect(Collectors.toSet());
-        List<Edge> pathEdges = getState().getGrid().findPath(gameController.getStartingCity().getPosition(),
-                gameController.getTargetCity().getPosition(), allAvailableEdges,
-                (from, to) -> getState().getGrid().getEdge(from, to).getDrivingCost(from));
+        List<Edge> pathEdges = findDrivingPath(allAvailableEdges);
         if (pathEdges.isEmpty()) {
             rentedEdges = new HashSet<>();
             return;
         }
 
         hasPath = true;
-        rentedEdges = pathEdges.stream().filter(edge -> !edge.getRailOwners().contains(player))
+        rentedEdges = pathEdges.stream().filter(edge -> !edge.isRailOwner(player))
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Finds the cheapest path from the starting city to the target city using the
+     * given edges.
+     * On a {@link DenseHexGridImpl} the search is guided by the hex distance to
+     * the target city and its result is cached.
+     *
+     * @param availableEdges the edges the path may use
+     * @return the cheapest path or an empty list if there is none
+     */
+    private List<Edge> findDrivingPath(final Set<Edge> availableEdges) {
+        final TilePosition start = gameController.getStartingCity().getPosition();
+        final TilePosition target = gameController.getTargetCity().getPosition();
+        if (getState().getGrid() instanceof DenseHexGridImpl dense && dense.isIndexed()) {
+            return dense.findDrivingPath(start, target, availableEdges);
+        }
+        return getState().getGrid().findPath(start, target, availableEdges,
+                (from, to) -> getState().getGrid().getEdge(from, to).getDrivingCost(from));
+    }
+
     /**
      * Returns the edges the player has rented as an unmodifiable set.
      *
@@ -497,13 +561,22 @@ public class PlayerController {
      * The path is a list of tiles starting from the current player position to the
      * target tile.
      * A tile can be driven to if it is reachable with the current dice roll.
+     * The map is empty as long as the player has not been placed on the starting
+     * city.
      *
      * @return a map of drivable tiles and the path to drive to the target tile
      */
     public Map<Tile, List<Tile>> getDrivableTiles() {
-        if (!canDrive()) {
+        if (!canDrive() || getState().getPlayerPositions().get(player) == null) {
             return Map.of();
         }
+        if (getState().getGrid() instanceof DenseHexGridImpl dense && dense.isIndexed()) {
+            final BitSet availableEdgeIds = dense.getRailIndex().getRailIds(player);
+            rentedEdges.stream().filter(Edge::hasRail).mapToInt(Edge::getId).forEach(availableEdgeIds::set);
+            return DrivableTiles.search(dense, dense.tileIndex(getState().getPlayerPositions().get(player)),
+                    dense.tileIndex(gameController.getTargetCity().getPosition()), availableEdgeIds,
+                    gameController.getCurrentDiceRoll());
+        }
 
         final Set<Edge> allAvailableEdges = List.of(getState().getGrid().getRails(player).values(), rentedEdges)
                 .stream()
@@ -558,6 +631,40 @@ public class PlayerController {
         return drivableTiles;
     }
 
+    /**
+     * Returns the cheapest driving costs from the player's position to all tiles
+     * that can be reached with any roll of the dice.
+     * The forecast answers which tiles can be reached and whether the target city
+     * can be reached for every dice roll at once. It is cached until the player's
+     * position, the rails, the rented edges or the target city change.
+     * Before the cities are chosen, the forecast has no target.
+     *
+     * @return the forecast or {@code null} if the player has no position or the
+     *         grid is not a {@link DenseHexGridImpl}
+     */
+    public DriveForecast getDriveForecast() {
+        final TilePosition position = getState().getPlayerPositions().get(player);
+        if (position == null || !(getState().getGrid() instanceof DenseHexGridImpl dense && dense.isIndexed())) {
+            return null;
+        }
+        final Pair<City, City> chosenCities = gameController.chosenCitiesProperty().getValue();
+        final City target = chosenCities == null ? null : chosenCities.getValue();
+        if (driveForecast == null || !position.equals(driveForecastPosition) || target != driveForecastTarget
+                || rentedEdges != driveForecastRentedEdges
+                || dense.getRailModificationCount() != driveForecastRailModifications) {
+            final BitSet availableEdgeIds = dense.getRailIndex().getRailIds(player);
+            rentedEdges.stream().filter(Edge::hasRail).mapToInt(Edge::getId).forEach(availableEdgeIds::set);
+            driveForecastRailModifications = dense.getRailModificationCount();
+            driveForecast = DriveForecast.compute(dense, dense.tileIndex(position),
+                    target == null ? -1 : dense.tileIndex(target.getPosition()), availableEdgeIds,
+                    getConfig().getDiceSides());
+            driveForecastPosition = position;
+            driveForecastTarget = target;
+            driveForecastRentedEdges = rentedEdges;
+        }
+        return driveForecast;
+    }
+
     /**
      * Drives to the target tile.
      * If the player drives to the target city, the point surplus is added for the
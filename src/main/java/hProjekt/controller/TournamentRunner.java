@@ -0,0 +1,430 @@
+package hProjekt.controller;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import hProjekt.Config;
+import hProjekt.model.DenseHexGridImpl;
+import hProjekt.model.GameConfig;
+import hProjekt.model.GameState;
+import hProjekt.model.Player;
+import hProjekt.model.PlayerImpl;
+
+/**
+ * Plays many AI-only games concurrently to compare {@link AiController}
+ * implementations.
+ * <p>
+ * Every game gets its own {@link GameState} and {@link GameController} and is
+ * played from start to end on a single thread of a fixed pool owned by the
+ * tournament, so games never share mutable state. Every game also gets its own
+ * {@link GameConfig#getRandom() generator}, seeded from the seed of the
+ * tournament and the number of the game, instead of drawing from
+ * {@link Config#RANDOM}. The maps and dice of a tournament are therefore
+ * reproducible, no matter which thread plays which game.
+ * <p>
+ * Apart from their generator, all games are played with the same
+ * {@link GameConfig}, so their AI controllers share its
+ * {@link GameConfig#getAiExecutionService() execution service}. The contestants take turns in the seats, so that every
+ * contestant plays every seat equally often. Games that throw an exception or
+ * exceed the time limit are counted as failed and do not affect the standings.
+ * The first failure is kept in the {@link Result}.
+ */
+public class TournamentRunner {
+
+    /**
+     * The difference between the seeds of two consecutive games.
+     */
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+    private final List<Class<? extends AiController>> contestants;
+    private final GameConfig config;
+    private final int games;
+    private final long seed;
+    private final int parallelism;
+    private final Duration gameTimeout;
+
+    /**
+     * The standing of a contestant after a tournament.
+     *
+     * @param name        the name of the contestant
+     * @param aiClass     the AI controller of the contestant
+     * @param wins        the number of games the contestant won
+     * @param winRate     the share of successful games the contestant won
+     * @param meanCredits the mean number of credits the contestant ended a game
+     *                    with
+     */
+    public record Standing(String name, Class<? extends AiController> aiClass, int wins, double winRate,
+            double meanCredits) {
+    }
+
+    /**
+     * The result of a tournament.
+     *
+     * @param standings    the standings of the contestants in the order they were
+     *                     given
+     * @param games        the number of games played
+     * @param failedGames  the number of games that failed
+     * @param firstFailure the failure of the failed game with the lowest number or
+     *                     {@code null} if no game failed; a game that exceeded
+     *                     the time limit fails with a {@link TimeoutException}
+     * @param elapsedNanos the wall-clock time of the tournament in nanoseconds
+     */
+    public record Result(List<Standing> standings, int games, int failedGames, Failure firstFailure,
+            long elapsedNanos) {
+
+        /**
+         * Returns the number of games played per second.
+         *
+         * @return the number of games played per second
+         */
+        public double getGamesPerSecond() {
+            return games / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder();
+            builder.append(String.format("%-30s %8s %9s %12s%n", "Contestant", "Wins", "Win rate", "Mean credits"));
+            for (final Standing standing : standings) {
+                builder.append(String.format("%-30s %8d %8.1f%% %12.2f%n", standing.name(), standing.wins(),
+                        standing.winRate() * 100, standing.meanCredits()));
+            }
+            builder.append(String.format("%d games (%d failed) in %.2f s, %.2f games per second", games, failedGames,
+                    elapsedNanos / 1e9, getGamesPerSecond()));
+            if (firstFailure != null) {
+                builder.append(String.format("%nFirst failure in game %d: %s", firstFailure.game(),
+                        firstFailure.cause()));
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * The failure of a game.
+     *
+     * @param game  the number of the game
+     * @param seed  the seed of the generator of the game
+     * @param cause the exception the game failed with
+     */
+    public record Failure(int game, long seed, Throwable cause) {
+    }
+
+    /**
+     * The outcome of a single game.
+     *
+     * @param winner  the contestant that won the game or {@code -1} if the game
+     *                failed
+     * @param credits the credits of every contestant at the end of the game
+     * @param failure the failure of the game or {@code null} if it did not fail
+     */
+    private record GameResult(int winner, int[] credits, Failure failure) {
+
+        /**
+         * Returns the outcome of a failed game.
+         *
+         * @param failure the failure of the game
+         * @return the outcome of a failed game
+         */
+        static GameResult failed(final Failure failure) {
+            return new GameResult(-1, null, failure);
+        }
+    }
+
+    /**
+     * Interrupts the thread of a game that exceeds its time limit until the game
+     * ends.
+     */
+    private static class Watchdog implements Runnable {
+        private final Thread thread = Thread.currentThread();
+        private boolean running = true;
+        private boolean fired = false;
+
+        @Override
+        public synchronized void run() {
+            if (running) {
+                fired = true;
+                thread.interrupt();
+            }
+        }
+
+        /**
+         * Returns whether the time limit was exceeded.
+         *
+         * @return whether the thread was interrupted
+         */
+        public synchronized boolean hasFired() {
+            return fired;
+        }
+
+        /**
+         * Stops interrupting the thread and clears its interrupt flag.
+         */
+        public void stop() {
+            synchronized (this) {
+                running = false;
+            }
+            Thread.interrupted();
+        }
+    }
+
+    /**
+     * Creates a new tournament between the given contestants.
+     *
+     * @param contestants the AI controllers of the contestants, one per seat; an AI
+     *                    controller may play several seats
+     * @param config      the configuration of all games
+     * @param games       the number of games to play
+     * @param seed        the seed the seeds of all games are derived from
+     * @param parallelism the number of games played at the same time
+     * @param gameTimeout the maximum time a single game may take
+     * @throws IllegalArgumentException if the number of contestants is not between
+     *                                  the minimum and maximum number of players of
+     *                                  the configuration, or if the number
+     *                                  of games, the parallelism or the timeout is
+     *                                  not positive
+     */
+    public TournamentRunner(final List<Class<? extends AiController>> contestants, final GameConfig config,
+            final int games, final long seed, final int parallelism, final Duration gameTimeout) {
+        if (contestants.size() < config.getMinPlayers() || contestants.size() > config.getMaxPlayers()) {
+            throw new IllegalArgumentException(String.format("A tournament needs between %d and %d contestants: %d",
+                    config.getMinPlayers(), config.getMaxPlayers(), contestants.size()));
+        }
+        if (games <= 0 || parallelism <= 0 || gameTimeout.isNegative() || gameTimeout.isZero()) {
+            throw new IllegalArgumentException("The number of games, the parallelism and the timeout must be positive");
+        }
+        this.contestants = List.copyOf(contestants);
+        this.config = config;
+        this.games = games;
+        this.seed = seed;
+        this.parallelism = parallelism;
+        this.gameTimeout = gameTimeout;
+    }
+
+    /**
+     * Plays all games of the tournament and waits for them to finish.
+     *
+     * @return the result of the tournament
+     */
+    public Result run() {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService pool = Executors.newFixedThreadPool(parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "TournamentGame-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "TournamentTimer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        try {
+            final long start = System.nanoTime();
+            final List<Future<GameResult>> tasks = IntStream.range(0, games)
+                    .mapToObj(game -> pool.submit(() -> playGame(game, timer))).toList();
+
+            final int[] wins = new int[contestants.size()];
+            final long[] credits = new long[contestants.size()];
+            int failedGames = 0;
+            Failure firstFailure = null;
+            for (int game = 0; game < games; game++) {
+                final GameResult result = await(tasks.get(game), game);
+                if (result.winner() < 0) {
+                    failedGames++;
+                    if (firstFailure == null) {
+                        firstFailure = result.failure();
+                    }
+                    continue;
+                }
+                wins[result.winner()]++;
+                for (int i = 0; i < contestants.size(); i++) {
+                    credits[i] += result.credits()[i];
+                }
+            }
+            final long elapsedNanos = System.nanoTime() - start;
+
+            final int successfulGames = games - failedGames;
+            final List<Standing> standings = new ArrayList<>();
+            for (int i = 0; i < contestants.size(); i++) {
+                standings.add(new Standing(getName(i), contestants.get(i), wins[i],
+                        successfulGames == 0 ? 0 : wins[i] / (double) successfulGames,
+                        successfulGames == 0 ? 0 : credits[i] / (double) successfulGames));
+            }
+            return new Result(standings, games, failedGames, firstFailure, elapsedNanos);
+        } finally {
+            pool.shutdownNow();
+            timer.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for the outcome of the given game.
+     * Errors that escaped the game are returned as its failure.
+     *
+     * @param task the task that plays the game
+     * @param game the number of the game
+     * @return the outcome of the game
+     * @throws IllegalStateException if the calling thread is interrupted
+     */
+    private GameResult await(final Future<GameResult> task, final int game) {
+        try {
+            return task.get();
+        } catch (final ExecutionException e) {
+            return GameResult.failed(new Failure(game, seedOf(game), e.getCause()));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for game " + game, e);
+        }
+    }
+
+    /**
+     * Returns the seed of the generator of the game with the given number.
+     *
+     * @param game the number of the game
+     * @return the seed of the game
+     */
+    private long seedOf(final int game) {
+        return seed + game * SEED_INCREMENT;
+    }
+
+    /**
+     * Plays the game with the given number on the calling thread.
+     *
+     * @param game  the number of the game
+     * @param timer the timer to enforce the time limit with
+     * @return the outcome of the game
+     */
+    private GameResult playGame(final int game, final ScheduledExecutorService timer) {
+        final GameConfig gameConfig = config.toBuilder().random(new Random(seedOf(game))).build();
+        final int[] contestantOfSeat = new int[contestants.size()];
+        final GameState state;
+
+        final Watchdog watchdog = new Watchdog();
+        final long timeout = gameTimeout.toMillis();
+        final ScheduledFuture<?> timeoutTask = timer.scheduleAtFixedRate(watchdog, timeout,
+                Math.max(1, timeout / 10), TimeUnit.MILLISECONDS);
+        try {
+            final DenseHexGridImpl grid = new DenseHexGridImpl(gameConfig, Config.TOWN_NAMES);
+            state = new GameState(grid, new ArrayList<>());
+            for (int seat = 0; seat < contestants.size(); seat++) {
+                contestantOfSeat[seat] = (seat + game) % contestants.size();
+                state.addPlayer(new PlayerImpl.Builder(seat + 1)
+                        .name(getName(contestantOfSeat[seat]))
+                        .ai(contestants.get(contestantOfSeat[seat]))
+                        .build(grid, gameConfig));
+            }
+            new GameController(state).startGame();
+        } catch (final RuntimeException e) {
+            Throwable cause = e;
+            if (watchdog.hasFired()) {
+                cause = new TimeoutException(String.format("Game %d exceeded the time limit of %d ms", game,
+                        timeout)).initCause(e);
+            }
+            return GameResult.failed(new Failure(game, seedOf(game), cause));
+        } finally {
+            timeoutTask.cancel(false);
+            watchdog.stop();
+        }
+
+        final List<Player> players = state.getPlayers();
+        final int[] credits = new int[contestants.size()];
+        for (int seat = 0; seat < players.size(); seat++) {
+            credits[contestantOfSeat[seat]] = players.get(seat).getCredits();
+        }
+        final int winner = contestantOfSeat[players.indexOf(state.getWinnerProperty().getValue())];
+        return new GameResult(winner, credits, null);
+    }
+
+    /**
+     * Returns the name of the contestant with the given index.
+     * Contestants that share their AI controller with earlier contestants are
+     * numbered.
+     *
+     * @param contestant the index of the contestant
+     * @return the name of the contestant
+     */
+    private String getName(final int contestant) {
+        final Class<? extends AiController> aiClass = contestants.get(contestant);
+        final long earlier = contestants.subList(0, contestant).stream().filter(aiClass::equals).count();
+        return earlier == 0 ? aiClass.getSimpleName() : aiClass.getSimpleName() + " #" + (earlier + 1);
+    }
+
+    /**
+     * Runs a tournament and prints its result.
+     * Accepts the options {@code --games <n>}, {@code --seed <n>},
+     * {@code --threads <n>}, {@code --timeout <seconds>},
+     * {@code --delay <milliseconds>} and
+     * {@code --contestants <class>,<class>,...}. By default every available AI
+     * controller plays two seats and the games are played on all cores, without
+     * the delay before each decision.
+     * The games are played with the current values of {@link Config}. The action
+     * log the players print to the standard output is discarded while the
+     * tournament runs, the standard error is kept. The stack trace of the first
+     * failed game is printed after the result.
+     *
+     * @param args the options
+     * @throws ClassNotFoundException if a contestant class does not exist
+     */
+    public static void main(final String[] args) throws ClassNotFoundException {
+        int games = 1000;
+        long seed = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long timeout = 60;
+        long delay = 0;
+        final List<Class<? extends AiController>> contestants = new ArrayList<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(args[i + 1]);
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                case "--threads" -> threads = Integer.parseInt(args[i + 1]);
+                case "--timeout" -> timeout = Long.parseLong(args[i + 1]);
+                case "--delay" -> delay = Long.parseLong(args[i + 1]);
+                case "--contestants" -> {
+                    for (final String name : args[i + 1].split(",")) {
+                        contestants.add(Class.forName(name).asSubclass(AiController.class));
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (contestants.isEmpty()) {
+            Config.AVAILABLE_AI_CONTROLLER.stream()
+                    .sorted((c1, c2) -> c1.getName().compareTo(c2.getName()))
+                    .forEach(aiClass -> {
+                        contestants.add(aiClass);
+                        contestants.add(aiClass);
+                    });
+        }
+        Config.AI_ACTION_DELAY = delay;
+
+        final TournamentRunner runner = new TournamentRunner(contestants, GameConfig.fromConfig(), games, seed,
+                threads, Duration.ofSeconds(timeout));
+        final PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        final Result result;
+        try {
+            result = runner.run();
+        } finally {
+            System.setOut(out);
+        }
+        out.println(result);
+        if (result.firstFailure() != null) {
+            result.firstFailure().cause().printStackTrace();
+        }
+    }
+}
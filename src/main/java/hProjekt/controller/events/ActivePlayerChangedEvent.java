@@ -0,0 +1,12 @@
+package hProjekt.controller.events;
+
+import hProjekt.controller.PlayerController;
+
+/**
+ * Published when a player became active or the active player finished.
+ *
+ * @param playerController the controller of the active player or {@code null}
+ *                         if no player is active
+ */
+public record ActivePlayerChangedEvent(PlayerController playerController) implements GameEvent {
+}
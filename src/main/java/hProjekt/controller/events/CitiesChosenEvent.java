@@ -0,0 +1,12 @@
+package hProjekt.controller.events;
+
+import hProjekt.model.City;
+
+/**
+ * Published when the cities to drive between were chosen.
+ *
+ * @param startingCity the city to start at
+ * @param targetCity   the city to drive to
+ */
+public record CitiesChosenEvent(City startingCity, City targetCity) implements GameEvent {
+}
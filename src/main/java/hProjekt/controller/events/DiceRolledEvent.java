@@ -0,0 +1,9 @@
+package hProjekt.controller.events;
+
+/**
+ * Published when the dice was rolled.
+ *
+ * @param value the rolled value
+ */
+public record DiceRolledEvent(int value) implements GameEvent {
+}
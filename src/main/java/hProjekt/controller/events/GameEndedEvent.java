@@ -0,0 +1,11 @@
+package hProjekt.controller.events;
+
+import hProjekt.model.Player;
+
+/**
+ * Published when the game ended.
+ *
+ * @param winner the player with the most credits
+ */
+public record GameEndedEvent(Player winner) implements GameEvent {
+}
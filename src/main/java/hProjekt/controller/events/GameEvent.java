@@ -0,0 +1,10 @@
+package hProjekt.controller.events;
+
+/**
+ * An event published by the game engine on its {@link GameEventBus}.
+ * Events are published on the thread of the game loop after the change they
+ * describe has been applied.
+ */
+public sealed interface GameEvent permits GamePhaseChangedEvent, RoundStartedEvent, DiceRolledEvent,
+        CitiesChosenEvent, ActivePlayerChangedEvent, PlayerStateChangedEvent, GameEndedEvent {
+}
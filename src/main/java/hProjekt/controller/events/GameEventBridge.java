@@ -0,0 +1,76 @@
+package hProjekt.controller.events;
+
+import hProjekt.controller.PlayerController;
+import hProjekt.model.City;
+import hProjekt.model.GameState;
+import hProjekt.model.PlayerState;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.Property;
+import javafx.util.Pair;
+
+/**
+ * Publishes the changes of the properties of a game as events on a
+ * {@link GameEventBus}.
+ * The game loop keeps updating its properties like before, the bridge only
+ * listens to them, so the events are published on the thread that changed the
+ * property, i.e. the thread of the game loop.
+ * <p>
+ * The dice roll is not bridged, as its property does not change if the same
+ * value is rolled twice. {@link DiceRolledEvent}s are published by the game
+ * controller directly.
+ */
+public final class GameEventBridge {
+
+    private GameEventBridge() {
+    }
+
+    /**
+     * Publishes the changes of the given properties of a game on the given bus.
+     *
+     * @param eventBus               the bus to publish on
+     * @param state                  the state of the game, whose phase and
+     *                               winner are published
+     * @param roundCounter           the round counter property of the game
+     * @param chosenCities           the chosen cities property of the game
+     * @param activePlayerController the active player controller property of the
+     *                               game
+     */
+    public static void bridge(final GameEventBus eventBus, final GameState state, final IntegerProperty roundCounter,
+            final Property<Pair<City, City>> chosenCities, final Property<PlayerController> activePlayerController) {
+        state.getGamePhaseProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue != null) {
+                eventBus.publish(new GamePhaseChangedEvent(newValue));
+            }
+        });
+        state.getWinnerProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue != null) {
+                eventBus.publish(new GameEndedEvent(newValue));
+            }
+        });
+        roundCounter.addListener((observable, oldValue, newValue) -> {
+            if (newValue.intValue() > 0) {
+                eventBus.publish(new RoundStartedEvent(newValue.intValue()));
+            }
+        });
+        chosenCities.addListener((observable, oldValue, newValue) -> {
+            if (newValue != null) {
+                eventBus.publish(new CitiesChosenEvent(newValue.getKey(), newValue.getValue()));
+            }
+        });
+        activePlayerController.addListener(
+                (observable, oldValue, newValue) -> eventBus.publish(new ActivePlayerChangedEvent(newValue)));
+    }
+
+    /**
+     * Publishes every update of the state of the given player on the given bus.
+     * Every update is published, even if the new state equals the old one.
+     *
+     * @param eventBus         the bus to publish on
+     * @param playerController the controller of the player
+     */
+    public static void bridge(final GameEventBus eventBus, final PlayerController playerController) {
+        final Property<PlayerState> property = playerController.getPlayerStateProperty();
+        property.addListener(observable -> eventBus
+                .publish(new PlayerStateChangedEvent(playerController.getPlayer(), property.getValue())));
+    }
+}
@@ -0,0 +1,97 @@
+package hProjekt.controller.events;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * A lightweight synchronous event bus for {@link GameEvent}s.
+ * Listeners subscribe to a type of event and are called on the publishing
+ * thread in the order they subscribed. Publishing an event nobody listens to
+ * only costs a check of the listener list, so a game without any listeners, for
+ * example a headless game, pays almost nothing for its events.
+ * <p>
+ * Subscribing and unsubscribing are thread-safe and may happen while an event
+ * is published.
+ */
+public class GameEventBus {
+
+    /**
+     * A handle to cancel a subscription.
+     */
+    @FunctionalInterface
+    public interface Subscription {
+        /**
+         * Stops the listener of this subscription from receiving further events.
+         */
+        void unsubscribe();
+    }
+
+    /**
+     * A listener for events of a type.
+     *
+     * @param type     the type of events to receive
+     * @param listener the listener
+     * @param <E>      the type of events to receive
+     */
+    private record Listener<E extends GameEvent>(Class<E> type, Consumer<? super E> listener) {
+
+        /**
+         * Passes the given event to the listener if it has the right type.
+         *
+         * @param event the event
+         */
+        void accept(final GameEvent event) {
+            if (type.isInstance(event)) {
+                listener.accept(type.cast(event));
+            }
+        }
+    }
+
+    private final List<Listener<?>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Subscribes the given listener to all events of the given type, including
+     * subtypes.
+     *
+     * @param type     the type of events to receive
+     * @param listener the listener
+     * @param <E>      the type of events to receive
+     * @return the subscription to cancel
+     */
+    public <E extends GameEvent> Subscription subscribe(final Class<E> type, final Consumer<? super E> listener) {
+        final Listener<E> entry = new Listener<>(type, listener);
+        listeners.add(entry);
+        return () -> listeners.remove(entry);
+    }
+
+    /**
+     * Subscribes the given listener to all events.
+     *
+     * @param listener the listener
+     * @return the subscription to cancel
+     */
+    public Subscription subscribe(final Consumer<? super GameEvent> listener) {
+        return subscribe(GameEvent.class, listener);
+    }
+
+    /**
+     * Returns whether any listener is subscribed.
+     *
+     * @return whether any listener is subscribed
+     */
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Passes the given event to all listeners subscribed to its type.
+     *
+     * @param event the event to publish
+     */
+    public void publish(final GameEvent event) {
+        for (final Listener<?> listener : listeners) {
+            listener.accept(event);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package hProjekt.controller.events;
+
+import hProjekt.controller.GamePhase;
+
+/**
+ * Published when the game enters a new phase.
+ *
+ * @param phase the new phase
+ */
+public record GamePhaseChangedEvent(GamePhase phase) implements GameEvent {
+}
@@ -0,0 +1,13 @@
+package hProjekt.controller.events;
+
+import hProjekt.model.Player;
+import hProjekt.model.PlayerState;
+
+/**
+ * Published when the state of a player was updated.
+ *
+ * @param player the player whose state was updated
+ * @param state  the new state of the player
+ */
+public record PlayerStateChangedEvent(Player player, PlayerState state) implements GameEvent {
+}
@@ -0,0 +1,9 @@
+package hProjekt.controller.events;
+
+/**
+ * Published when a new round of the current phase starts.
+ *
+ * @param round the number of the round, starting at {@code 1} in every phase
+ */
+public record RoundStartedEvent(int round) implements GameEvent {
+}
@@ -0,0 +1,4 @@
+/**
+ * Events published by the game engine and the bus to subscribe to them.
+ */
+package hProjekt.controller.events;
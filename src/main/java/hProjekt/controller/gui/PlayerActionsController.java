@@ -11,7 +11,6 @@ import java.util.stream.Collectors;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
 
-import hProjekt.Config;
 import hProjekt.controller.PlayerController;
 import hProjekt.controller.PlayerObjective;
 import hProjekt.controller.actions.ChooseCitiesAction;
@@ -523,14 +522,15 @@ public class PlayerActionsController {
         selectedRailPath.clear();
         selectedTileSubscription.unsubscribe();
 
-        if (selectedEdges.size() == Config.MAX_RENTABLE_DISTANCE) {
+        if (selectedEdges.size() == getPlayerController().getConfig().getMaxRentableDistance()) {
             return;
         }
 
         setupTileSelectionHandlers((tc, selectedTile) -> highlightTrimmedPath(
                 (costs, distance) -> {
                     distance += selectedEdges.size();
-                    return distance > Config.MAX_RENTABLE_DISTANCE || distance > getPlayer().getCredits();
+                    return distance > getPlayerController().getConfig().getMaxRentableDistance()
+                            || distance > getPlayer().getCredits();
                 },
                 findChoosenEdgesPath(tc.getTile(), selectedTile), selectedEdges),
                 tc -> selectedEdges.addAll(selectedRailPath), selectedEdges);
@@ -2,6 +2,7 @@ package hProjekt.controller.gui;
 
 import java.util.List;
 
+import hProjekt.model.GameConfig;
 import hProjekt.model.Tile;
 import hProjekt.model.TilePosition;
 import hProjekt.view.HexGridBuilder;
@@ -28,6 +29,7 @@ import javafx.util.Duration;
 public class PlayerAnimationController {
 
     private final HexGridBuilder hexGridBuilder;
+    private final GameConfig config;
     private final StackPane playerContainer;
     private final Circle playerCircle;
     private final ImageView trainImage;
@@ -40,6 +42,7 @@ public class PlayerAnimationController {
      */
     public PlayerAnimationController(HexGridBuilder hexGridBuilder, Color playerColor) {
         this.hexGridBuilder = hexGridBuilder;
+        this.config = GameConfig.of(hexGridBuilder.getGrid());
 
         // Create the circle representing the player
         this.playerCircle = new Circle(36, playerColor);
@@ -61,6 +64,8 @@ public class PlayerAnimationController {
 
     /**
      * Animates the playerCircle along the given list of Tiles.
+     * In {@link GameConfig#isTurboMode() turbo mode} the playerCircle jumps to the
+     * last tile without pulsating.
      *
      * @param tiles the list of Tiles to follow
      * @return the Animation object representing the full animation
@@ -94,13 +99,19 @@ public class PlayerAnimationController {
         PathTransition transition = new PathTransition();
         transition.setNode(playerContainer);
         transition.setPath(path);
-        transition.setDuration(Duration.seconds(1));
+        transition.setDuration(config.isTurboMode() ? Duration.ONE : Duration.seconds(1));
         transition.setInterpolator(Interpolator.EASE_BOTH);
         transition.setCycleCount(1);
 
         // Add the transition to the sequence
         animationSequence.getChildren().add(transition);
 
+        if (config.isTurboMode()) {
+            showTrain();
+            animationSequence.play();
+            return animationSequence;
+        }
+
         // Add pulsating animation before the main animation
         ScaleTransition pulseBefore = createPulseTransition();
 
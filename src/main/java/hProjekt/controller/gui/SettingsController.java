@@ -62,6 +62,7 @@ public class SettingsController {
 
     /**
      * Updates Config values with the current settings.
+     * Games that are already running keep their {@link hProjekt.model.GameConfig}.
      */
     public void applySettings() {
 
@@ -0,0 +1,218 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import hProjekt.model.TilePosition.EdgeDirection;
+
+/**
+ * The edges a single player may extend their rail network with, bucketed by the
+ * player's {@link Edge#getTotalBuildingCost(Player) total building cost}.
+ * <p>
+ * An edge belongs to the frontier if the player does not own a rail on it and
+ * it connects to one of the player's rails. As long as the player has no rails,
+ * the frontier consists of all edges at starting cities. This is the rule of
+ * {@link Edge#addRail(Player)}.
+ * <p>
+ * The frontier is maintained by its {@link DenseHexGridImpl}. Building a rail
+ * only updates the edges of the two tiles of that rail, both for the new
+ * frontier edges of the builder and for the changed costs of all players.
+ * Removing a rail rebuilds the frontier.
+ * <p>
+ * The frontier is a library for the solution of P2.1 and is not used by the
+ * game itself. On a {@link DenseHexGridImpl},
+ * {@code PlayerController#getBuildableRails()} can return
+ * {@link #getEdges(int)} with the building budget during the building phase and
+ * with the credits of the player otherwise, instead of checking every edge with
+ * {@code canBuildRail}. On other grids it has to fall back to that check.
+ */
+public final class BuildableFrontier {
+
+    private final DenseHexGridImpl grid;
+    private final Player player;
+    private final int[] costOfEdge;
+    private final List<BitSet> buckets = new ArrayList<>();
+    private int size = 0;
+
+    /**
+     * Creates the frontier of the given player in the given grid.
+     *
+     * @param grid   the grid
+     * @param player the player
+     */
+    public BuildableFrontier(final DenseHexGridImpl grid, final Player player) {
+        this.grid = grid;
+        this.player = player;
+        this.costOfEdge = new int[grid.getEdgeCount()];
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the frontier from the rails of the player.
+     */
+    public void rebuild() {
+        Arrays.fill(costOfEdge, -1);
+        buckets.forEach(BitSet::clear);
+        size = 0;
+        final BitSet rails = grid.getRailIndex().getRailIds(player);
+        if (rails.isEmpty()) {
+            for (final City city : grid.getCities().values()) {
+                if (city.isStartingCity()) {
+                    addEdgesOf(grid.tileIndex(city.getPosition()));
+                }
+            }
+            return;
+        }
+        for (int id = rails.nextSetBit(0); id >= 0; id = rails.nextSetBit(id + 1)) {
+            addEdgesAround(grid.getEdgeById(id));
+        }
+    }
+
+    /**
+     * Updates the frontier after a rail was built on the given edge.
+     *
+     * @param edge  the edge the rail was built on
+     * @param owner the player that built the rail
+     */
+    void railAdded(final Edge edge, final Player owner) {
+        if (owner.equals(player)) {
+            if (grid.getRailIndex().getRailCount(player) == 1) {
+                // the first rail replaces the starting cities as origin of the network
+                rebuild();
+                return;
+            }
+            remove(edge.getId());
+            addEdgesAround(edge);
+        }
+        updateCostsAround(edge);
+    }
+
+    /**
+     * Returns whether the edge with the given id belongs to the frontier.
+     *
+     * @param edgeId the id of the edge
+     * @return whether the edge belongs to the frontier
+     */
+    public boolean contains(final int edgeId) {
+        return costOfEdge[edgeId] >= 0;
+    }
+
+    /**
+     * Returns the number of edges in the frontier.
+     *
+     * @return the number of edges in the frontier
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns all edges of the frontier whose total building cost for the player
+     * is at most the given cost.
+     *
+     * @param maxCost the maximum total building cost
+     * @return the edges of the frontier within the cost
+     */
+    public Set<Edge> getEdges(final int maxCost) {
+        final Set<Edge> result = new HashSet<>();
+        for (int cost = 0; cost <= maxCost && cost < buckets.size(); cost++) {
+            final BitSet bucket = buckets.get(cost);
+            for (int id = bucket.nextSetBit(0); id >= 0; id = bucket.nextSetBit(id + 1)) {
+                result.add(grid.getEdgeById(id));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all edges of the frontier.
+     *
+     * @return the edges of the frontier
+     */
+    public Set<Edge> getEdges() {
+        return getEdges(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Adds the edges of both tiles of the given rail that the player does not own.
+     *
+     * @param rail the rail of the player
+     */
+    private void addEdgesAround(final Edge rail) {
+        addEdgesOf(grid.tileIndex(rail.getPosition1()));
+        addEdgesOf(grid.tileIndex(rail.getPosition2()));
+    }
+
+    /**
+     * Adds all edges of the given tile that the player does not own.
+     *
+     * @param tileIndex the index of the tile
+     */
+    private void addEdgesOf(final int tileIndex) {
+        for (final EdgeDirection direction : EdgeDirection.VALUES) {
+            final int id = grid.edgeId(tileIndex, direction);
+            if (id >= 0 && costOfEdge[id] < 0 && !grid.getEdgeById(id).isRailOwner(player)) {
+                put(id);
+            }
+        }
+    }
+
+    /**
+     * Recomputes the costs of the frontier edges on both tiles of the given edge.
+     *
+     * @param edge the edge whose rails changed
+     */
+    private void updateCostsAround(final Edge edge) {
+        final int[] offsets = grid.getLineGraph().getOffsets();
+        final int[] targets = grid.getLineGraph().getTargets();
+        updateCost(edge.getId());
+        for (int i = offsets[edge.getId()]; i < offsets[edge.getId() + 1]; i++) {
+            updateCost(targets[i]);
+        }
+    }
+
+    /**
+     * Moves the edge with the given id to the bucket of its current cost if it
+     * belongs to the frontier.
+     *
+     * @param edgeId the id of the edge
+     */
+    private void updateCost(final int edgeId) {
+        if (costOfEdge[edgeId] >= 0) {
+            remove(edgeId);
+            put(edgeId);
+        }
+    }
+
+    /**
+     * Adds the edge with the given id to the bucket of its current cost.
+     *
+     * @param edgeId the id of the edge
+     */
+    private void put(final int edgeId) {
+        final int cost = grid.getEdgeById(edgeId).getTotalBuildingCost(player);
+        while (buckets.size() <= cost) {
+            buckets.add(new BitSet());
+        }
+        buckets.get(cost).set(edgeId);
+        costOfEdge[edgeId] = cost;
+        size++;
+    }
+
+    /**
+     * Removes the edge with the given id from the frontier.
+     *
+     * @param edgeId the id of the edge
+     */
+    private void remove(final int edgeId) {
+        if (costOfEdge[edgeId] >= 0) {
+            buckets.get(costOfEdge[edgeId]).clear(edgeId);
+            costOfEdge[edgeId] = -1;
+            size--;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package hProjekt.model;
+
+import java.util.Arrays;
+
+/**
+ * Caches the {@link Edge#getTotalBuildingCost(Player) total building cost} of
+ * every edge of a {@link DenseHexGridImpl} per player.
+ * The total building cost of an edge only depends on the rails on the edge and
+ * on the other edges of its two tiles. When a rail is built or removed, only
+ * the entries of the edges around that rail are invalidated.
+ * <p>
+ * The numbers of hits and misses are counted.
+ * Access is synchronized, as the UI and the game loop query costs from
+ * different threads.
+ */
+public class BuildingCostCache {
+
+    private static final int INVALID = -1;
+
+    private final DenseHexGridImpl grid;
+    private final int[][] costs = new int[Long.SIZE][];
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * Creates a new empty cache for the given grid.
+     *
+     * @param grid the grid whose edges are cached
+     */
+    public BuildingCostCache(final DenseHexGridImpl grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Returns the total building cost of the edge with the given id for the given
+     * player and computes it if it is not cached.
+     *
+     * @param edgeId the id of the edge
+     * @param player the player
+     * @return the total building cost
+     * @see Edge#getTotalBuildingCost(Player)
+     */
+    public synchronized int getTotalBuildingCost(final int edgeId, final Player player) {
+        final int[] playerCosts = getCosts(grid.getRailOwnership().register(player));
+        if (playerCosts[edgeId] != INVALID) {
+            hits++;
+            return playerCosts[edgeId];
+        }
+        misses++;
+        final Edge edge = grid.getEdgeById(edgeId);
+        final int cost = edge.getBaseBuildingCost() + edge.getTotalParallelCost(player);
+        playerCosts[edgeId] = cost;
+        return cost;
+    }
+
+    /**
+     * Invalidates the entries of all edges whose cost may change when a rail on
+     * the given edge is built or removed, i.e. all edges of its two tiles.
+     *
+     * @param edge the edge whose rails changed
+     */
+    synchronized void invalidateAround(final Edge edge) {
+        final int[] offsets = grid.getLineGraph().getOffsets();
+        final int[] targets = grid.getLineGraph().getTargets();
+        final int edgeId = edge.getId();
+        for (final int[] playerCosts : costs) {
+            if (playerCosts != null) {
+                playerCosts[edgeId] = INVALID;
+                for (int i = offsets[edgeId]; i < offsets[edgeId + 1]; i++) {
+                    playerCosts[targets[i]] = INVALID;
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidates all entries.
+     */
+    public synchronized void invalidateAll() {
+        for (final int[] playerCosts : costs) {
+            if (playerCosts != null) {
+                Arrays.fill(playerCosts, INVALID);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of queries answered from the cache.
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of queries that had to compute the cost.
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Resets the hit and miss counters.
+     */
+    public synchronized void resetCounters() {
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Returns the cached costs of the player in the given slot of the
+     * {@link RailOwnership} and creates them if necessary.
+     *
+     * @param slot the slot of the player
+     * @return the cached costs of the player per edge
+     */
+    private int[] getCosts(final int slot) {
+        if (costs[slot] == null) {
+            costs[slot] = new int[grid.getEdgeCount()];
+            Arrays.fill(costs[slot], INVALID);
+        }
+        return costs[slot];
+    }
+}
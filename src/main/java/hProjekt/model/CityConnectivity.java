@@ -0,0 +1,230 @@
+package hProjekt.model;
+
+import java.util.Arrays;
+
+/**
+ * Tracks which cities are connected to the rail network.
+ * The tracker is a union-find structure over the tile indices of a
+ * {@link DenseHexGridImpl}. Every edge with at least one rail joins the
+ * components of its two tiles and every component counts the connected cities
+ * it contains.
+ * <p>
+ * A city is connected if at least one rail ends at its tile. Two cities are on
+ * the same network if they are connected by a sequence of rails, regardless of
+ * who owns them.
+ * <p>
+ * Adding rails updates the structure incrementally. Union-find cannot split
+ * components, so removing the last rail of an edge marks the tracker as stale
+ * and it is rebuilt from all rails on the next query.
+ */
+public final class CityConnectivity {
+
+    private final DenseHexGridImpl grid;
+    private final int[] parent;
+    private final int[] rank;
+    private final int[] railEdgesPerTile;
+    private final int[] citiesPerComponent;
+    private final boolean[] isCity;
+    private final int cityCount;
+    private int connectedCityCount;
+    private boolean stale;
+
+    /**
+     * Creates a new tracker for the given grid and adds all rails that are
+     * already built.
+     *
+     * @param grid the grid to track
+     */
+    public CityConnectivity(final DenseHexGridImpl grid) {
+        this.grid = grid;
+        this.parent = new int[grid.getTileCapacity()];
+        this.rank = new int[grid.getTileCapacity()];
+        this.railEdgesPerTile = new int[grid.getTileCapacity()];
+        this.citiesPerComponent = new int[grid.getTileCapacity()];
+        this.isCity = new boolean[grid.getTileCapacity()];
+        for (final City city : grid.getCities().values()) {
+            isCity[grid.tileIndex(city.getPosition())] = true;
+        }
+        this.cityCount = grid.getCities().size();
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the tracker from all rails in the grid.
+     */
+    public void rebuild() {
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        Arrays.fill(rank, 0);
+        Arrays.fill(railEdgesPerTile, 0);
+        Arrays.fill(citiesPerComponent, 0);
+        connectedCityCount = 0;
+        stale = false;
+        for (int id = 0; id < grid.getEdgeCount(); id++) {
+            final Edge edge = grid.getEdgeById(id);
+            if (edge.hasRail()) {
+                addRailEdge(edge);
+            }
+        }
+    }
+
+    /**
+     * Updates the tracker after a rail was built on the given edge.
+     *
+     * @param edge the edge the rail was built on
+     */
+    void railAdded(final Edge edge) {
+        if (!stale && edge.getRailOwners().size() == 1) {
+            addRailEdge(edge);
+        }
+    }
+
+    /**
+     * Updates the tracker after a rail was removed from the given edge.
+     *
+     * @param edge the edge the rail was removed from
+     */
+    void railRemoved(final Edge edge) {
+        if (!edge.hasRail()) {
+            stale = true;
+        }
+    }
+
+    /**
+     * Adds an edge that carries at least one rail.
+     *
+     * @param edge the edge to add
+     */
+    private void addRailEdge(final Edge edge) {
+        final int tile1 = grid.tileIndex(edge.getPosition1());
+        final int tile2 = grid.tileIndex(edge.getPosition2());
+        touch(tile1);
+        touch(tile2);
+        union(tile1, tile2);
+    }
+
+    /**
+     * Counts a rail ending at the given tile. The first rail connects the city on
+     * the tile, if there is one.
+     *
+     * @param tile the tile index
+     */
+    private void touch(final int tile) {
+        if (railEdgesPerTile[tile]++ == 0 && isCity[tile]) {
+            connectedCityCount++;
+            citiesPerComponent[find(tile)]++;
+        }
+    }
+
+    /**
+     * Returns the representative of the component containing the given tile.
+     *
+     * @param tile the tile index
+     * @return the representative of the component
+     */
+    private int find(final int tile) {
+        int root = tile;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        int current = tile;
+        while (parent[current] != root) {
+            final int next = parent[current];
+            parent[current] = root;
+            current = next;
+        }
+        return root;
+    }
+
+    /**
+     * Merges the components of the given tiles.
+     *
+     * @param tile1 the first tile index
+     * @param tile2 the second tile index
+     */
+    private void union(final int tile1, final int tile2) {
+        int root1 = find(tile1);
+        int root2 = find(tile2);
+        if (root1 == root2) {
+            return;
+        }
+        if (rank[root1] < rank[root2]) {
+            final int swap = root1;
+            root1 = root2;
+            root2 = swap;
+        }
+        parent[root2] = root1;
+        citiesPerComponent[root1] += citiesPerComponent[root2];
+        if (rank[root1] == rank[root2]) {
+            rank[root1]++;
+        }
+    }
+
+    /**
+     * Rebuilds the tracker if a rail was removed since the last query.
+     */
+    private void ensureFresh() {
+        if (stale) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns whether a rail ends at the tile of the given city.
+     *
+     * @param city the city
+     * @return whether the city is connected
+     */
+    public boolean isConnected(final City city) {
+        ensureFresh();
+        return railEdgesPerTile[grid.tileIndex(city.getPosition())] > 0;
+    }
+
+    /**
+     * Returns the number of cities that are connected to a rail.
+     *
+     * @return the number of connected cities
+     */
+    public int getConnectedCityCount() {
+        ensureFresh();
+        return connectedCityCount;
+    }
+
+    /**
+     * Returns the number of cities that are not connected to a rail.
+     *
+     * @return the number of unconnected cities
+     */
+    public int getUnconnectedCityCount() {
+        return cityCount - getConnectedCityCount();
+    }
+
+    /**
+     * Returns whether the two given cities are connected to each other by rails.
+     *
+     * @param city1 the first city
+     * @param city2 the second city
+     * @return whether the cities are on the same network
+     */
+    public boolean isSameNetwork(final City city1, final City city2) {
+        if (!isConnected(city1) || !isConnected(city2)) {
+            return city1.equals(city2);
+        }
+        return find(grid.tileIndex(city1.getPosition())) == find(grid.tileIndex(city2.getPosition()));
+    }
+
+    /**
+     * Returns the number of connected cities on the network of the given city.
+     *
+     * @param city the city
+     * @return the number of cities on the network of the given city, {@code 0} if
+     *         the city is not connected
+     */
+    public int getNetworkCityCount(final City city) {
+        if (!isConnected(city)) {
+            return 0;
+        }
+        return citiesPerComponent[find(grid.tileIndex(city.getPosition()))];
+    }
+}
@@ -0,0 +1,103 @@
+package hProjekt.model;
+
+import java.util.Map;
+import java.util.Set;
+
+import hProjekt.Config;
+import javafx.util.Pair;
+
+/**
+ * The building and driving costs of a {@link GameConfig} compiled into tables
+ * indexed by {@link Tile.Type#ordinal()}.
+ * Looking up a cost neither creates a key object nor hashes one.
+ * <p>
+ * Instances are immutable. The model of a game is returned by
+ * {@link GameConfig#getCostModel()}.
+ */
+public final class CostModel {
+
+    private final int[][] buildingCosts;
+    private final int[][] drivingCosts;
+    private final int minDrivingCost;
+
+    /**
+     * Creates a new cost model from the given tables.
+     *
+     * @param buildingCosts the building costs indexed by the types of both tiles
+     * @param drivingCosts  the driving costs indexed by the type of the tile to
+     *                      drive from and the type of the tile to drive to
+     */
+    private CostModel(final int[][] buildingCosts, final int[][] drivingCosts) {
+        this.buildingCosts = buildingCosts;
+        this.drivingCosts = drivingCosts;
+        int min = Integer.MAX_VALUE;
+        for (final int[] row : drivingCosts) {
+            for (final int cost : row) {
+                min = Math.min(min, cost);
+            }
+        }
+        this.minDrivingCost = min;
+    }
+
+    /**
+     * Compiles the given cost maps.
+     *
+     * @param buildingCostMap the building costs, see
+     *                        {@link Config#TILE_TYPE_TO_BUILDING_COST}
+     * @param drivingCostMap  the driving costs, see
+     *                        {@link Config#TILE_TYPE_TO_DRIVING_COST}
+     * @return the compiled cost model
+     * @throws IllegalStateException if a combination of tile types has no cost
+     */
+    static CostModel of(final Map<Set<Tile.Type>, Integer> buildingCostMap,
+            final Map<Pair<Tile.Type, Tile.Type>, Integer> drivingCostMap) {
+        final Tile.Type[] types = Tile.Type.values();
+        final int[][] buildingCosts = new int[types.length][types.length];
+        final int[][] drivingCosts = new int[types.length][types.length];
+        for (final Tile.Type from : types) {
+            for (final Tile.Type to : types) {
+                final Integer buildingCost = buildingCostMap.get(from == to ? Set.of(from) : Set.of(from, to));
+                final Integer drivingCost = drivingCostMap.get(new Pair<>(from, to));
+                if (buildingCost == null || drivingCost == null) {
+                    throw new IllegalStateException(
+                            String.format("No building or driving cost between %s and %s", from, to));
+                }
+                buildingCosts[from.ordinal()][to.ordinal()] = buildingCost;
+                drivingCosts[from.ordinal()][to.ordinal()] = drivingCost;
+            }
+        }
+        return new CostModel(buildingCosts, drivingCosts);
+    }
+
+    /**
+     * Returns the cost of building a rail between tiles of the given types.
+     *
+     * @param type1 the type of the first tile
+     * @param type2 the type of the second tile
+     * @return the building cost
+     */
+    public int getBuildingCost(final Tile.Type type1, final Tile.Type type2) {
+        return buildingCosts[type1.ordinal()][type2.ordinal()];
+    }
+
+    /**
+     * Returns the cost of driving from a tile of the first type to a tile of the
+     * second type.
+     *
+     * @param from the type of the tile to drive from
+     * @param to   the type of the tile to drive to
+     * @return the driving cost
+     */
+    public int getDrivingCost(final Tile.Type from, final Tile.Type to) {
+        return drivingCosts[from.ordinal()][to.ordinal()];
+    }
+
+    /**
+     * Returns the smallest driving cost between any two tile types.
+     *
+     * @return the smallest driving cost
+     */
+    public int getMinDrivingCost() {
+        return minDrivingCost;
+    }
+}
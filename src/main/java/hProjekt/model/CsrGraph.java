@@ -0,0 +1,134 @@
+package hProjekt.model;
+
+import java.util.Arrays;
+
+import hProjekt.model.TilePosition.EdgeDirection;
+
+/**
+ * An immutable graph in compressed sparse row (CSR) format.
+ * The neighbours of node {@code n} are
+ * {@code targets[offsets[n]]} to {@code targets[offsets[n + 1] - 1]}, so they
+ * can be iterated with a plain loop without creating any objects:
+ *
+ * <pre>{@code
+ * for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+ *     int neighbour = targets[i];
+ * }
+ * }</pre>
+ *
+ * A {@link DenseHexGridImpl} provides its tile graph, whose nodes are tile
+ * indices, and its line graph, whose nodes are edge ids, in this format.
+ */
+public final class CsrGraph {
+
+    private final int[] offsets;
+    private final int[] targets;
+
+    /**
+     * Creates a new graph from the given arrays.
+     *
+     * @param offsets the position of the first neighbour of every node in targets,
+     *                with one additional entry for the end
+     * @param targets the neighbours of all nodes
+     */
+    private CsrGraph(final int[] offsets, final int[] targets) {
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    /**
+     * Creates the tile graph of the given grid.
+     * The nodes are the tile indices and two tiles are adjacent if there is an
+     * edge between them. The neighbours are ordered by {@link EdgeDirection}.
+     *
+     * @param grid the grid
+     * @return the tile graph
+     */
+    static CsrGraph tileGraph(final DenseHexGridImpl grid) {
+        final int nodeCount = grid.getTileCapacity();
+        final int[] offsets = new int[nodeCount + 1];
+        int[] targets = new int[nodeCount * EdgeDirection.SIZE];
+        int size = 0;
+        for (int tile = 0; tile < nodeCount; tile++) {
+            offsets[tile] = size;
+            for (final EdgeDirection direction : EdgeDirection.VALUES) {
+                if (grid.edgeId(tile, direction) >= 0) {
+                    targets[size++] = grid.neighbourIndex(tile, direction);
+                }
+            }
+        }
+        offsets[nodeCount] = size;
+        return new CsrGraph(offsets, Arrays.copyOf(targets, size));
+    }
+
+    /**
+     * Creates the line graph of the given grid.
+     * The nodes are the edge ids and two edges are adjacent if they share a tile,
+     * see {@link Edge#connectsTo(Edge)}. The neighbours are the other edges of the
+     * first tile of the edge followed by the other edges of the second tile, each
+     * ordered by {@link EdgeDirection}.
+     *
+     * @param grid the grid
+     * @return the line graph
+     */
+    static CsrGraph lineGraph(final DenseHexGridImpl grid) {
+        final int nodeCount = grid.getEdgeCount();
+        final int[] offsets = new int[nodeCount + 1];
+        final int[] targets = new int[nodeCount * 2 * (EdgeDirection.SIZE - 1)];
+        int size = 0;
+        for (int edgeId = 0; edgeId < nodeCount; edgeId++) {
+            offsets[edgeId] = size;
+            final Edge edge = grid.getEdgeById(edgeId);
+            for (final TilePosition position : new TilePosition[] { edge.getPosition1(), edge.getPosition2() }) {
+                final int tile = grid.tileIndex(position);
+                for (final EdgeDirection direction : EdgeDirection.VALUES) {
+                    final int other = grid.edgeId(tile, direction);
+                    if (other >= 0 && other != edgeId) {
+                        targets[size++] = other;
+                    }
+                }
+            }
+        }
+        offsets[nodeCount] = size;
+        return new CsrGraph(offsets, Arrays.copyOf(targets, size));
+    }
+
+    /**
+     * Returns the number of nodes.
+     *
+     * @return the number of nodes
+     */
+    public int getNodeCount() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Returns the offsets of the nodes' neighbours in {@link #getTargets()}.
+     * The array has one more entry than there are nodes and must not be modified.
+     *
+     * @return the offsets
+     */
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * Returns the neighbours of all nodes, see {@link #getOffsets()}.
+     * The array must not be modified.
+     *
+     * @return the neighbours of all nodes
+     */
+    public int[] getTargets() {
+        return targets;
+    }
+
+    /**
+     * Returns the number of neighbours of the given node.
+     *
+     * @param node the node
+     * @return the number of neighbours
+     */
+    public int getDegree(final int node) {
+        return offsets[node + 1] - offsets[node];
+    }
+}
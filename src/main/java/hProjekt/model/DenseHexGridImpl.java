@@ -0,0 +1,914 @@
+package hProjekt.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.IntBinaryOperator;
+
+import hProjekt.Config;
+import hProjekt.model.TilePosition.EdgeDirection;
+
+/**
+ * A {@link HexGrid} that additionally stores its tiles in a flat array.
+ * The array covers the bounding box of all tile positions and is addressed by
+ * the offset of the q- and r-coordinate from the top left corner of that box.
+ * Looking up a tile therefore neither allocates a {@link TilePosition} nor
+ * hashes one.
+ * <p>
+ * Map generation is inherited from {@link HexGridImpl}, the array is built once
+ * the map is complete.
+ * <p>
+ * Edges are addressed by their {@link Edge#getId() id}. A primitive table maps
+ * each pair of tile index and {@link EdgeDirection} to the id of the edge in
+ * that direction, the map based edge API is only a view on this table.
+ * <p>
+ * The neighbours and edges of every tile are precomputed as well, so the
+ * adjacency queries of {@link TileImpl} run in constant time. So are the base
+ * building and driving costs of every edge, which are recomputed when the
+ * {@link CostModel} changes.
+ * <p>
+ * The owners of the rails on its own edges are stored as bit masks in a
+ * {@link RailOwnership}. The rails of every player are kept in a
+ * {@link RailIndex}, the owners of the rails at every tile in
+ * {@link TileRailOwners}, the building costs in a {@link BuildingCostCache} and
+ * the connection of the cities to the rail network in a
+ * {@link CityConnectivity} tracker.
+ * <p>
+ * Shortest paths are searched with a {@link DialPathFinder}.
+ * <p>
+ * The grid answers {@link #getRails(Player)}, {@link #getConnectedCities()}
+ * and {@link #getUnconnectedCities()} from its indices instead of the student
+ * implementation. It is therefore never created by the game itself, only by
+ * tools like the {@link hProjekt.controller.TournamentRunner} that create it
+ * explicitly.
+ */
+public final class DenseHexGridImpl extends HexGridImpl {
+
+    private int minQ;
+    private int minR;
+    private int columns;
+    private int rows;
+    private Tile[] tileArray;
+    private Edge[] edgesById;
+    private int[] edgeTable;
+    private Map<Set<TilePosition>, Edge> edgeView;
+    private int[] neighbourTable;
+    private CsrGraph tileGraph;
+    private CsrGraph lineGraph;
+    private final List<Set<Tile>> neighbourSets = new ArrayList<>();
+    private final List<Set<Edge>> edgeSets = new ArrayList<>();
+    private RailOwnership railOwnership;
+    private RailIndex railIndex;
+    private TileRailOwners tileRailOwners;
+    private BuildingCostCache buildingCostCache;
+    private final Map<Player, BuildableFrontier> buildableFrontiers = new ConcurrentHashMap<>();
+    private CityConnectivity cityConnectivity;
+    private final AtomicInteger railModificationCount = new AtomicInteger();
+    private PathCache pathCache;
+    private EdgeCosts edgeCosts;
+    private final ThreadLocal<DialPathFinder> pathFinder = ThreadLocal.withInitial(() -> new DialPathFinder(this));
+    private final ThreadLocal<RentableEdgeSearch> rentableEdgeSearch = ThreadLocal
+            .withInitial(() -> new RentableEdgeSearch(this));
+
+    /**
+     * Creates a new DenseHexGrid with the given scale.
+     *
+     * @param scale          the scale of the grid
+     * @param numberOfCities the number of cities to place
+     * @param names          the names to use for the cities
+     */
+    public DenseHexGridImpl(final int scale, final int numberOfCities, final String[] names) {
+        super(scale, numberOfCities, names);
+        initIndices();
+    }
+
+    /**
+     * Creates a new DenseHexGrid with the map scale and number of cities of the
+     * given configuration.
+     *
+     * @param config the configuration of the game
+     * @param names  the names to use for the cities
+     */
+    public DenseHexGridImpl(final GameConfig config, final String[] names) {
+        super(config, names);
+        initIndices();
+    }
+
+    /**
+     * Creates a new DenseHexGrid with the default values.
+     *
+     * @param names the names to use for the cities
+     */
+    public DenseHexGridImpl(final String[] names) {
+        this(Config.MAP_SCALE, Config.NUMBER_OF_CITIES, names);
+    }
+
+    /**
+     * Creates a new DenseHexGrid with the given tiles, edges, and cities.
+     *
+     * @param tiles  the tiles
+     * @param edges  the edges
+     * @param cities the cities
+     */
+    public DenseHexGridImpl(final Map<TilePosition, Tile> tiles, final Map<Set<TilePosition>, Edge> edges,
+            final Map<TilePosition, City> cities) {
+        this(GameConfig.fromConfig(), tiles, edges, cities);
+    }
+
+    /**
+     * Creates a new DenseHexGrid with the given configuration, tiles, edges, and
+     * cities.
+     *
+     * @param config the configuration of the game
+     * @param tiles  the tiles
+     * @param edges  the edges
+     * @param cities the cities
+     */
+    public DenseHexGridImpl(final GameConfig config, final Map<TilePosition, Tile> tiles,
+            final Map<Set<TilePosition>, Edge> edges, final Map<TilePosition, City> cities) {
+        super(config, tiles, edges, cities);
+        initIndices();
+    }
+
+    /**
+     * Builds the dense tables, graphs, caches and indices of the grid.
+     */
+    private void initIndices() {
+        initTileArray();
+        initEdgeTable();
+        initAdjacency();
+        tileGraph = CsrGraph.tileGraph(this);
+        lineGraph = CsrGraph.lineGraph(this);
+        edgeCosts = new EdgeCosts(getConfig().getCostModel());
+        railOwnership = new RailOwnership(edgesById.length, new RailOwnership.Listener() {
+            @Override
+            public void railAdded(final int edgeId, final Player player) {
+                DenseHexGridImpl.this.railAdded(edgesById[edgeId], player);
+            }
+
+            @Override
+            public void railRemoved(final int edgeId, final Player player) {
+                DenseHexGridImpl.this.railRemoved(edgesById[edgeId], player);
+            }
+        });
+        railIndex = new RailIndex(edgesById.length, this::getEdgeById);
+        tileRailOwners = new TileRailOwners(this);
+        buildingCostCache = new BuildingCostCache(this);
+        cityConnectivity = new CityConnectivity(this);
+        pathCache = new PathCache(this, getConfig().getPathCacheSize());
+        for (final Edge edge : super.getEdges().values()) {
+            final int id = getEdge(edge.getPosition1(), edge.getPosition2()).getId();
+            edge.getRailOwners().forEach(player -> railOwnership.add(id, player));
+        }
+    }
+
+    /**
+     * Computes the bounding box of all tiles and copies them into the tile array.
+     */
+    private void initTileArray() {
+        final Map<TilePosition, Tile> tiles = getTiles();
+        if (tiles.isEmpty()) {
+            tileArray = new Tile[0];
+            return;
+        }
+        int maxQ = Integer.MIN_VALUE;
+        int maxR = Integer.MIN_VALUE;
+        minQ = Integer.MAX_VALUE;
+        minR = Integer.MAX_VALUE;
+        for (final TilePosition position : tiles.keySet()) {
+            minQ = Math.min(minQ, position.q());
+            minR = Math.min(minR, position.r());
+            maxQ = Math.max(maxQ, position.q());
+            maxR = Math.max(maxR, position.r());
+        }
+        columns = maxQ - minQ + 1;
+        rows = maxR - minR + 1;
+
+        final Tile[] array = new Tile[columns * rows];
+        for (final Tile tile : tiles.values()) {
+            array[tileIndex(tile.getPosition().q(), tile.getPosition().r())] = tile;
+        }
+        tileArray = array;
+    }
+
+    /**
+     * Numbers the edges created by the superclass in the order of their positions
+     * and fills the edge table. Each edge is replaced by a copy that carries its
+     * id and stores its owners in the {@link RailOwnership} of this grid.
+     * Each tile owns six consecutive slots, one for every {@link EdgeDirection},
+     * that contain the id of the edge in that direction or {@code -1}.
+     */
+    private void initEdgeTable() {
+        final List<Edge> sorted = new ArrayList<>(super.getEdges().values());
+        sorted.sort(Comparator.comparing(Edge::getPosition1).thenComparing(Edge::getPosition2));
+        edgesById = new Edge[sorted.size()];
+        edgeTable = new int[tileArray.length * EdgeDirection.SIZE];
+        Arrays.fill(edgeTable, -1);
+        for (int id = 0; id < sorted.size(); id++) {
+            final Edge edge = new EdgeImpl(this, sorted.get(id).getPosition1(), sorted.get(id).getPosition2(), null,
+                    id);
+            edgesById[id] = edge;
+            final int index1 = tileIndex(edge.getPosition1());
+            final int index2 = tileIndex(edge.getPosition2());
+            edgeTable[index1 * EdgeDirection.SIZE + directionIndex(edge.getPosition1(), edge.getPosition2())] = edge
+                    .getId();
+            edgeTable[index2 * EdgeDirection.SIZE + directionIndex(edge.getPosition2(), edge.getPosition1())] = edge
+                    .getId();
+        }
+        edgeView = new EdgeMapView();
+    }
+
+    /**
+     * Precomputes the neighbours and edges of every tile.
+     * The neighbour table has the same layout as the edge table and contains the
+     * index of the neighbouring tile or {@code -1}.
+     */
+    private void initAdjacency() {
+        neighbourTable = new int[tileArray.length * EdgeDirection.SIZE];
+        for (int index = 0; index < tileArray.length; index++) {
+            if (tileArray[index] == null) {
+                Arrays.fill(neighbourTable, index * EdgeDirection.SIZE, (index + 1) * EdgeDirection.SIZE, -1);
+                neighbourSets.add(null);
+                edgeSets.add(null);
+                continue;
+            }
+            final Set<Tile> neighbours = new HashSet<>();
+            final Set<Edge> edges = new HashSet<>();
+            for (final EdgeDirection direction : EdgeDirection.VALUES) {
+                final int neighbour = tileIndex(qOf(index) + direction.position.q(),
+                        rOf(index) + direction.position.r());
+                final int slot = index * EdgeDirection.SIZE + direction.ordinal();
+                neighbourTable[slot] = getTileAtIndex(neighbour) == null ? -1 : neighbour;
+                if (neighbourTable[slot] >= 0) {
+                    neighbours.add(tileArray[neighbour]);
+                }
+                if (edgeTable[slot] >= 0) {
+                    edges.add(edgesById[edgeTable[slot]]);
+                }
+            }
+            neighbourSets.add(Collections.unmodifiableSet(neighbours));
+            edgeSets.add(Collections.unmodifiableSet(edges));
+        }
+    }
+
+    /**
+     * Returns whether the tile array and the adjacency tables have been built.
+     * This is not the case while the superclass is still generating the map.
+     *
+     * @return whether the tile array and the adjacency tables have been built
+     */
+    public boolean isIndexed() {
+        return neighbourTable != null;
+    }
+
+    /**
+     * Returns the ordinal of the {@link EdgeDirection} pointing from one position
+     * to the other.
+     *
+     * @param from the position to start from
+     * @param to   the position to point to
+     * @return the ordinal of the direction or {@code -1} if the positions are not
+     *         adjacent
+     */
+    private static int directionIndex(final TilePosition from, final TilePosition to) {
+        final int dq = to.q() - from.q();
+        final int dr = to.r() - from.r();
+        for (int i = 0; i < EdgeDirection.SIZE; i++) {
+            final TilePosition offset = EdgeDirection.VALUES.get(i).position;
+            if (offset.q() == dq && offset.r() == dr) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the given coordinates in the tile array.
+     * The index is valid for every position inside the bounding box of the grid,
+     * even if there is no tile at that position.
+     *
+     * @param q the q-coordinate
+     * @param r the r-coordinate
+     * @return the index of the given coordinates or {@code -1} if they lie outside
+     *         of the bounding box
+     */
+    public int tileIndex(final int q, final int r) {
+        final int column = q - minQ;
+        final int row = r - minR;
+        if (column < 0 || column >= columns || row < 0 || row >= rows) {
+            return -1;
+        }
+        return row * columns + column;
+    }
+
+    /**
+     * Returns the index of the given position in the tile array.
+     *
+     * @param position the position
+     * @return the index of the given position or {@code -1} if it lies outside of
+     *         the bounding box
+     * @see #tileIndex(int, int)
+     */
+    public int tileIndex(final TilePosition position) {
+        return tileIndex(position.q(), position.r());
+    }
+
+    /**
+     * Returns the q-coordinate belonging to the given tile index.
+     *
+     * @param index the tile index
+     * @return the q-coordinate
+     */
+    public int qOf(final int index) {
+        return index % columns + minQ;
+    }
+
+    /**
+     * Returns the r-coordinate belonging to the given tile index.
+     *
+     * @param index the tile index
+     * @return the r-coordinate
+     */
+    public int rOf(final int index) {
+        return index / columns + minR;
+    }
+
+    /**
+     * Returns the size of the tile array, i.e. the number of positions in the
+     * bounding box of the grid. All tile indices are smaller than this value.
+     *
+     * @return the size of the tile array
+     */
+    public int getTileCapacity() {
+        return tileArray.length;
+    }
+
+    /**
+     * Returns the tile with the given index.
+     *
+     * @param index the tile index
+     * @return the tile with the given index or {@code null} if there is no tile
+     */
+    public Tile getTileAtIndex(final int index) {
+        return index < 0 ? null : tileArray[index];
+    }
+
+    /**
+     * Returns the index of the neighbour of the given tile in the given direction.
+     *
+     * @param tileIndex the index of the tile
+     * @param direction the direction of the neighbour
+     * @return the index of the neighbour or {@code -1} if there is no neighbour
+     */
+    public int neighbourIndex(final int tileIndex, final EdgeDirection direction) {
+        if (tileIndex < 0) {
+            return -1;
+        }
+        return neighbourTable[tileIndex * EdgeDirection.SIZE + direction.ordinal()];
+    }
+
+    /**
+     * Returns the neighbour of the given tile in the given direction.
+     *
+     * @param tileIndex the index of the tile
+     * @param direction the direction of the neighbour
+     * @return the neighbour or {@code null} if there is no neighbour
+     */
+    public Tile getNeighbour(final int tileIndex, final EdgeDirection direction) {
+        return getTileAtIndex(neighbourIndex(tileIndex, direction));
+    }
+
+    /**
+     * Returns all neighbours of the given tile as an unmodifiable set.
+     *
+     * @param tileIndex the index of the tile
+     * @return all neighbours of the given tile
+     */
+    public Set<Tile> getNeighbours(final int tileIndex) {
+        return tileIndex < 0 || neighbourSets.get(tileIndex) == null ? Set.of() : neighbourSets.get(tileIndex);
+    }
+
+    /**
+     * Returns all edges of the given tile as an unmodifiable set.
+     *
+     * @param tileIndex the index of the tile
+     * @return all edges of the given tile
+     */
+    public Set<Edge> getEdges(final int tileIndex) {
+        return tileIndex < 0 || edgeSets.get(tileIndex) == null ? Set.of() : edgeSets.get(tileIndex);
+    }
+
+    @Override
+    public Tile getTileAt(final int q, final int r) {
+        if (tileArray == null) {
+            // the superclass is still generating the map
+            return super.getTileAt(new TilePosition(q, r));
+        }
+        return getTileAtIndex(tileIndex(q, r));
+    }
+
+    @Override
+    public Tile getTileAt(final TilePosition position) {
+        return getTileAt(position.q(), position.r());
+    }
+
+    // Edges
+
+    /**
+     * Returns the number of edges in this grid. All edge ids are smaller than this
+     * value.
+     *
+     * @return the number of edges in this grid
+     */
+    public int getEdgeCount() {
+        return edgesById.length;
+    }
+
+    /**
+     * Returns the edge with the given id.
+     *
+     * @param id the id of the edge
+     * @return the edge with the given id
+     */
+    public Edge getEdgeById(final int id) {
+        return edgesById[id];
+    }
+
+    /**
+     * Returns the id of the edge of the given tile in the given direction.
+     *
+     * @param tileIndex the index of the tile
+     * @param direction the direction of the edge
+     * @return the id of the edge or {@code -1} if there is no edge
+     */
+    public int edgeId(final int tileIndex, final EdgeDirection direction) {
+        if (tileIndex < 0) {
+            return -1;
+        }
+        return edgeTable[tileIndex * EdgeDirection.SIZE + direction.ordinal()];
+    }
+
+    /**
+     * Returns the id of the edge between the two given tiles.
+     *
+     * @param tileIndex1 the index of the first tile
+     * @param tileIndex2 the index of the second tile
+     * @return the id of the edge or {@code -1} if the tiles are not adjacent
+     */
+    public int edgeIdBetween(final int tileIndex1, final int tileIndex2) {
+        if (tileIndex1 < 0 || tileIndex2 < 0) {
+            return -1;
+        }
+        for (int slot = tileIndex1 * EdgeDirection.SIZE; slot < (tileIndex1 + 1) * EdgeDirection.SIZE; slot++) {
+            if (neighbourTable[slot] == tileIndex2) {
+                return edgeTable[slot];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the edge of the given tile in the given direction.
+     *
+     * @param tileIndex the index of the tile
+     * @param direction the direction of the edge
+     * @return the edge or {@code null} if there is no edge
+     */
+    public Edge getEdge(final int tileIndex, final EdgeDirection direction) {
+        final int id = edgeId(tileIndex, direction);
+        return id < 0 ? null : edgesById[id];
+    }
+
+    @Override
+    public Map<Set<TilePosition>, Edge> getEdges() {
+        if (edgeView == null) {
+            // the superclass is still generating the map
+            return super.getEdges();
+        }
+        return edgeView;
+    }
+
+    @Override
+    public Edge getEdge(final TilePosition position0, final TilePosition position1) {
+        if (edgeTable == null) {
+            // the superclass is still generating the map
+            return super.getEdge(position0, position1);
+        }
+        final int direction = directionIndex(position0, position1);
+        final int index = tileIndex(position0);
+        if (direction < 0 || index < 0) {
+            return null;
+        }
+        final int id = edgeTable[index * EdgeDirection.SIZE + direction];
+        return id < 0 ? null : edgesById[id];
+    }
+
+    // Costs
+
+    /**
+     * The building and driving costs of all edges, computed with the
+     * {@link CostModel} of the configuration of the grid.
+     */
+    private final class EdgeCosts {
+        private final int[] baseBuildingCosts;
+        /**
+         * The driving cost from the first to the second position of edge {@code id}
+         * at {@code 2 * id} and the driving cost in the other direction at
+         * {@code 2 * id + 1}.
+         */
+        private final int[] drivingCosts;
+
+        private EdgeCosts(final CostModel costModel) {
+            this.baseBuildingCosts = new int[edgesById.length];
+            this.drivingCosts = new int[2 * edgesById.length];
+            for (int id = 0; id < edgesById.length; id++) {
+                final Tile.Type type1 = getTileAt(edgesById[id].getPosition1()).getType();
+                final Tile.Type type2 = getTileAt(edgesById[id].getPosition2()).getType();
+                baseBuildingCosts[id] = costModel.getBuildingCost(type1, type2);
+                drivingCosts[2 * id] = costModel.getDrivingCost(type1, type2);
+                drivingCosts[2 * id + 1] = costModel.getDrivingCost(type2, type1);
+            }
+        }
+    }
+
+    /**
+     * Returns the base building cost of the edge with the given id.
+     *
+     * @param edgeId the id of the edge
+     * @return the base building cost of the edge
+     * @see Edge#getBaseBuildingCost()
+     */
+    public int getBaseBuildingCost(final int edgeId) {
+        return edgeCosts.baseBuildingCosts[edgeId];
+    }
+
+    /**
+     * Returns the cost of driving along the edge with the given id.
+     *
+     * @param edgeId        the id of the edge
+     * @param fromPosition1 whether to drive from the first to the second position
+     *                      of the edge
+     * @return the driving cost
+     * @see Edge#getDrivingCost(TilePosition)
+     */
+    int getDrivingCost(final int edgeId, final boolean fromPosition1) {
+        return edgeCosts.drivingCosts[2 * edgeId + (fromPosition1 ? 0 : 1)];
+    }
+
+    /**
+     * Returns the cost of driving from the first to the second given tile.
+     *
+     * @param fromTileIndex the index of the tile to drive from
+     * @param toTileIndex   the index of the tile to drive to
+     * @return the driving cost
+     * @throws IllegalArgumentException if the tiles are not adjacent
+     */
+    public int getDrivingCost(final int fromTileIndex, final int toTileIndex) {
+        final int id = edgeIdBetween(fromTileIndex, toTileIndex);
+        if (id < 0) {
+            throw new IllegalArgumentException("The given tiles are not adjacent.");
+        }
+        return getDrivingCost(id, tileIndex(edgesById[id].getPosition1()) == fromTileIndex);
+    }
+
+    // Rails
+
+    /**
+     * Returns the tile graph of this grid in CSR format.
+     * The nodes are the tile indices, see {@link CsrGraph#tileGraph}.
+     *
+     * @return the tile graph
+     */
+    public CsrGraph getTileGraph() {
+        return tileGraph;
+    }
+
+    /**
+     * Returns the line graph of this grid in CSR format.
+     * The nodes are the edge ids, see {@link CsrGraph#lineGraph}.
+     *
+     * @return the line graph
+     */
+    public CsrGraph getLineGraph() {
+        return lineGraph;
+    }
+
+    /**
+     * Returns the owners of the rails on the edges created by this grid.
+     *
+     * @return the rail owners
+     */
+    public RailOwnership getRailOwnership() {
+        return railOwnership;
+    }
+
+    /**
+     * Returns the owners of the rails ending at each tile.
+     *
+     * @return the tile rail owners
+     */
+    public TileRailOwners getTileRailOwners() {
+        return tileRailOwners;
+    }
+
+    /**
+     * Returns the cache of the total building costs of all edges.
+     *
+     * @return the building cost cache
+     */
+    public BuildingCostCache getBuildingCostCache() {
+        return buildingCostCache;
+    }
+
+    /**
+     * Returns the buildable frontier of the given player and creates it if
+     * necessary.
+     * The frontier is kept up to date while rails are built and removed, see
+     * {@link BuildableFrontier} for its use in P2.1.
+     *
+     * @param player the player
+     * @return the buildable frontier of the player
+     */
+    public BuildableFrontier getBuildableFrontier(final Player player) {
+        return buildableFrontiers.computeIfAbsent(player, p -> new BuildableFrontier(this, p));
+    }
+
+    /**
+     * Returns the number of times a rail was built or removed in this grid.
+     * Results derived from the rails can be cached as long as this number stays
+     * the same.
+     *
+     * @return the number of rail modifications
+     */
+    public int getRailModificationCount() {
+        return railModificationCount.get();
+    }
+
+    /**
+     * Returns the index of all rails in this grid.
+     *
+     * @return the rail index
+     */
+    public RailIndex getRailIndex() {
+        return railIndex;
+    }
+
+    /**
+     * Returns the tracker for the connection of the cities to the rail network.
+     *
+     * @return the city connectivity tracker
+     */
+    public CityConnectivity getCityConnectivity() {
+        return cityConnectivity;
+    }
+
+    /**
+     * Updates the rail index, the tile rail owners, the building cost cache, the
+     * buildable frontiers and the city connectivity after the given player built a
+     * rail on the given edge.
+     * Called by the {@link RailOwnership} of this grid.
+     *
+     * @param edge   the edge the rail was built on
+     * @param player the player that built the rail
+     */
+    private void railAdded(final Edge edge, final Player player) {
+        railIndex.railAdded(edge, player);
+        tileRailOwners.railAdded(edge, player);
+        buildingCostCache.invalidateAround(edge);
+        buildableFrontiers.values().forEach(frontier -> frontier.railAdded(edge, player));
+        cityConnectivity.railAdded(edge);
+        railModificationCount.incrementAndGet();
+    }
+
+    /**
+     * Updates the rail index, the tile rail owners, the building cost cache, the
+     * buildable frontiers and the city connectivity after the given player removed
+     * their rail from the given edge.
+     * Called by the {@link RailOwnership} of this grid.
+     *
+     * @param edge   the edge the rail was removed from
+     * @param player the player that removed the rail
+     */
+    private void railRemoved(final Edge edge, final Player player) {
+        railIndex.railRemoved(edge, player);
+        tileRailOwners.railRemoved(edge, player);
+        buildingCostCache.invalidateAround(edge);
+        buildableFrontiers.values().forEach(BuildableFrontier::rebuild);
+        cityConnectivity.railRemoved(edge);
+        railModificationCount.incrementAndGet();
+    }
+
+    @Override
+    public Map<Set<TilePosition>, Edge> getRails(final Player player) {
+        if (railIndex == null) {
+            // the superclass is still generating the map
+            return super.getRails(player);
+        }
+        return railIndex.getRails(player);
+    }
+
+    @Override
+    public Map<TilePosition, City> getConnectedCities() {
+        return filterCities(true);
+    }
+
+    @Override
+    public Map<TilePosition, City> getUnconnectedCities() {
+        return filterCities(false);
+    }
+
+    /**
+     * Returns all cities whose connection to the rail network matches the given
+     * value.
+     *
+     * @param connected whether the connected or the unconnected cities should be
+     *                  returned
+     * @return the matching cities as an unmodifiable map
+     */
+    private Map<TilePosition, City> filterCities(final boolean connected) {
+        final Map<TilePosition, City> result = new HashMap<>();
+        for (final City city : getCities().values()) {
+            if (cityConnectivity.isConnected(city) == connected) {
+                result.put(city.getPosition(), city);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    // Paths
+
+    /**
+     * Returns the path finder of the calling thread.
+     *
+     * @return the path finder of the calling thread
+     */
+    public DialPathFinder getPathFinder() {
+        return pathFinder.get();
+    }
+
+    /**
+     * Returns the cache of the paths found by
+     * {@link #findDrivingPath(TilePosition, TilePosition, Set)}.
+     *
+     * @return the path cache
+     */
+    public PathCache getPathCache() {
+        return pathCache;
+    }
+
+    /**
+     * Finds the cheapest path to drive from start to end using the available
+     * edges.
+     * The search is guided by the hex distance to end and its result is cached in
+     * the {@link #getPathCache() path cache}.
+     *
+     * @param start          the start position
+     * @param end            the end position
+     * @param availableEdges the edges to search for the path
+     * @return the cheapest path between start and end as an unmodifiable list or
+     *         an empty list if there is none
+     */
+    public List<Edge> findDrivingPath(final TilePosition start, final TilePosition end,
+            final Set<Edge> availableEdges) {
+        return pathCache.getPath(tileIndex(start), tileIndex(end), availableEdges,
+                () -> findIndexedPath(start, end, availableEdges, this::getDrivingCost,
+                        getConfig().getCostModel().getMinDrivingCost()));
+    }
+
+    /**
+     * Returns the search for rentable rails of the calling thread.
+     *
+     * @return the search for rentable rails of the calling thread
+     */
+    public RentableEdgeSearch getRentableEdgeSearch() {
+        return rentableEdgeSearch.get();
+    }
+
+    /**
+     * Finds the shortest path between start and end using the available edges and
+     * the primitive edgeCostFunction on tile indices.
+     *
+     * @param start            the start position
+     * @param end              the end position
+     * @param availableEdges   the edges to search for the path
+     * @param edgeCostFunction the function to calculate the cost of an edge,
+     *                         receives the tile index of the current and of the
+     *                         next position
+     * @return the shortest path between start and end
+     * @see DialPathFinder#findPath(int, int, Set, IntBinaryOperator)
+     */
+    public List<Edge> findIndexedPath(final TilePosition start, final TilePosition end,
+            final Set<Edge> availableEdges, final IntBinaryOperator edgeCostFunction) {
+        return getPathFinder().findPath(tileIndex(start), tileIndex(end), availableEdges, edgeCostFunction);
+    }
+
+    /**
+     * Finds the shortest path between start and end using the available edges and
+     * the primitive edgeCostFunction on tile indices.
+     * If minEdgeCost is positive, the search is guided by the hex distance to end
+     * (A*), which usually expands far fewer tiles on large grids.
+     *
+     * @param start            the start position
+     * @param end              the end position
+     * @param availableEdges   the edges to search for the path
+     * @param edgeCostFunction the function to calculate the cost of an edge,
+     *                         receives the tile index of the current and of the
+     *                         next position
+     * @param minEdgeCost      a lower bound for the cost of every edge, {@code 0}
+     *                         to search without heuristic
+     * @return the shortest path between start and end
+     * @see DialPathFinder#findPath(int, int, Set, IntBinaryOperator, int)
+     */
+    public List<Edge> findIndexedPath(final TilePosition start, final TilePosition end,
+            final Set<Edge> availableEdges, final IntBinaryOperator edgeCostFunction, final int minEdgeCost) {
+        return getPathFinder().findPath(tileIndex(start), tileIndex(end), availableEdges, edgeCostFunction,
+                minEdgeCost);
+    }
+
+    @Override
+    public List<Edge> findPath(final TilePosition start, final TilePosition target, final Set<Edge> availableEdges,
+            final BiFunction<TilePosition, TilePosition, Integer> edgeCostFunction) {
+        if (!isIndexed()) {
+            return super.findPath(start, target, availableEdges, edgeCostFunction);
+        }
+        return findIndexedPath(start, target, availableEdges, (from, to) -> edgeCostFunction
+                .apply(tileArray[from].getPosition(), tileArray[to].getPosition()));
+    }
+
+    /**
+     * An unmodifiable map view on the edge table.
+     */
+    private class EdgeMapView extends AbstractMap<Set<TilePosition>, Edge> {
+        @Override
+        public int size() {
+            return edgesById.length;
+        }
+
+        @Override
+        public Edge get(final Object key) {
+            if (!(key instanceof Set<?> positions) || positions.size() != 2) {
+                return null;
+            }
+            final Iterator<?> iterator = positions.iterator();
+            if (iterator.next() instanceof TilePosition position0 && iterator.next() instanceof TilePosition position1) {
+                return getEdge(position0, position1);
+            }
+            return null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Collection<Edge> values() {
+            return Collections.unmodifiableList(Arrays.asList(edgesById));
+        }
+
+        @Override
+        public Set<Entry<Set<TilePosition>, Edge>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return edgesById.length;
+                }
+
+                @Override
+                public Iterator<Entry<Set<TilePosition>, Edge>> iterator() {
+                    return new Iterator<>() {
+                        private int next = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < edgesById.length;
+                        }
+
+                        @Override
+                        public Entry<Set<TilePosition>, Edge> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final Edge edge = edgesById[next++];
+                            return new SimpleImmutableEntry<>(edge.getAdjacentTilePositions(), edge);
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntBinaryOperator;
+
+import hProjekt.model.TilePosition.EdgeDirection;
+
+/**
+ * Shortest path search on a {@link DenseHexGridImpl} using a bucket queue
+ * (Dial's algorithm).
+ * Edge costs are small non-negative integers, so instead of a binary heap the
+ * queue keeps one FIFO bucket per distance. Distances and predecessors are
+ * stored in {@code int} arrays indexed by tile index and all arrays are reused
+ * between searches; a generation stamp marks which entries belong to the
+ * current search.
+ * <p>
+ * The search visits the neighbours of a tile in the order of
+ * {@link EdgeDirection} and takes entries of the same distance in insertion
+ * order. This is exactly the order of {@link HexGridImpl#findPath}, so both
+ * return the same path.
+ * <p>
+ * Optionally the search is guided by the hex distance to the target (A*).
+ * The heuristic is the hex distance multiplied by a lower bound for the cost of
+ * a single edge. It never overestimates and is consistent, so the first path
+ * reaching the target is still a shortest one, but among several shortest
+ * paths a different one may be returned than without the heuristic.
+ * <p>
+ * The number of tiles expanded by the searches is counted, see
+ * {@link #getExpandedNodes()}.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public class DialPathFinder {
+
+    private final DenseHexGridImpl grid;
+    private final int[] distance;
+    private final int[] previous;
+    private final int[] stamp;
+    private final int[] edgeStamp;
+    private int generation = 0;
+
+    private int[] bucketHead = new int[16];
+    private int[] bucketTail = new int[16];
+    private int bucketCount = 0;
+    private int[] entryNode = new int[64];
+    private int[] entryNext = new int[64];
+    private int entryCount = 0;
+
+    private int targetQ;
+    private int targetR;
+    private int heuristicWeight;
+    private int expandedNodes = 0;
+    private long totalExpandedNodes = 0;
+
+    /**
+     * Creates a new path finder for the given grid.
+     *
+     * @param grid the grid to search in
+     */
+    public DialPathFinder(final DenseHexGridImpl grid) {
+        this.grid = grid;
+        this.distance = new int[grid.getTileCapacity()];
+        this.previous = new int[grid.getTileCapacity()];
+        this.stamp = new int[grid.getTileCapacity()];
+        this.edgeStamp = new int[grid.getEdgeCount()];
+    }
+
+    /**
+     * Finds the shortest path between start and target using the available edges
+     * and the edgeCostFunction.
+     *
+     * @param start            the index of the start tile
+     * @param target           the index of the target tile
+     * @param availableEdges   the edges to search for the path
+     * @param edgeCostFunction the function to calculate the cost of an edge,
+     *                         receives the index of the current tile and the index
+     *                         of the next tile. Must not return negative values.
+     * @return the shortest path between start and target or an empty list if there
+     *         is none
+     * @throws IllegalArgumentException if the edgeCostFunction returns a negative
+     *                                  cost
+     */
+    public List<Edge> findPath(final int start, final int target, final Set<Edge> availableEdges,
+            final IntBinaryOperator edgeCostFunction) {
+        return findPath(start, target, availableEdges, edgeCostFunction, 0);
+    }
+
+    /**
+     * Finds the shortest path between start and target using the available edges
+     * and the edgeCostFunction.
+     * If minEdgeCost is positive, the search is guided by the hex distance to the
+     * target multiplied by minEdgeCost (A*). If it is {@code 0}, this is the same
+     * as {@link #findPath(int, int, Set, IntBinaryOperator)}.
+     *
+     * @param start            the index of the start tile
+     * @param target           the index of the target tile
+     * @param availableEdges   the edges to search for the path
+     * @param edgeCostFunction the function to calculate the cost of an edge,
+     *                         receives the index of the current tile and the index
+     *                         of the next tile. Must not return values smaller
+     *                         than minEdgeCost.
+     * @param minEdgeCost      a lower bound for the cost of every edge
+     * @return the shortest path between start and target or an empty list if there
+     *         is none
+     * @throws IllegalArgumentException if minEdgeCost is negative or the
+     *                                  edgeCostFunction returns a cost smaller
+     *                                  than minEdgeCost
+     */
+    public List<Edge> findPath(final int start, final int target, final Set<Edge> availableEdges,
+            final IntBinaryOperator edgeCostFunction, final int minEdgeCost) {
+        if (minEdgeCost < 0) {
+            throw new IllegalArgumentException("The minimum edge cost must not be negative: " + minEdgeCost);
+        }
+        expandedNodes = 0;
+        if (grid.getTileAtIndex(start) == null || grid.getTileAtIndex(target) == null) {
+            return List.of();
+        }
+        nextGeneration();
+        for (final Edge edge : availableEdges) {
+            final int id = edge.getId();
+            if (id >= 0 && id < edgeStamp.length && grid.getEdgeById(id).equals(edge)) {
+                edgeStamp[id] = generation;
+            }
+        }
+
+        targetQ = grid.qOf(target);
+        targetR = grid.rOf(target);
+        heuristicWeight = minEdgeCost;
+        search(start, target, edgeCostFunction);
+        totalExpandedNodes += expandedNodes;
+
+        if (stamp[target] != generation) {
+            return List.of();
+        }
+        final List<Edge> pathEdges = new ArrayList<>();
+        int current = target;
+        while (current != start) {
+            final int previousTile = previous[current];
+            pathEdges.add(grid.getEdgeById(grid.edgeIdBetween(previousTile, current)));
+            current = previousTile;
+        }
+        return pathEdges.reversed();
+    }
+
+    /**
+     * Returns the distance of the given tile computed by the last search.
+     *
+     * @param tile the index of the tile
+     * @return the distance of the tile or {@code -1} if it was not reached
+     */
+    public int getDistance(final int tile) {
+        return stamp[tile] == generation ? distance[tile] : -1;
+    }
+
+    /**
+     * Returns the number of tiles expanded by the last search.
+     *
+     * @return the number of tiles expanded by the last search
+     */
+    public int getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    /**
+     * Returns the number of tiles expanded by all searches of this path finder.
+     *
+     * @return the number of tiles expanded by all searches
+     */
+    public long getTotalExpandedNodes() {
+        return totalExpandedNodes;
+    }
+
+    /**
+     * Returns the estimated remaining cost from the given tile to the target of
+     * the current search.
+     *
+     * @param tile the index of the tile
+     * @return the estimated remaining cost, {@code 0} if no heuristic is used
+     */
+    private int estimate(final int tile) {
+        if (heuristicWeight == 0) {
+            return 0;
+        }
+        final int dq = grid.qOf(tile) - targetQ;
+        final int dr = grid.rOf(tile) - targetR;
+        return heuristicWeight * (Math.abs(dq) + Math.abs(dr) + Math.abs(dq + dr)) / 2;
+    }
+
+    /**
+     * Runs the search until the target is settled or the queue is empty.
+     *
+     * @param start            the index of the start tile
+     * @param target           the index of the target tile
+     * @param edgeCostFunction the function to calculate the cost of an edge
+     */
+    private void search(final int start, final int target, final IntBinaryOperator edgeCostFunction) {
+        bucketCount = 0;
+        entryCount = 0;
+        stamp[start] = generation;
+        distance[start] = 0;
+        previous[start] = start;
+        push(start, estimate(start));
+
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            while (bucketHead[bucket] >= 0) {
+                final int entry = bucketHead[bucket];
+                bucketHead[bucket] = entryNext[entry];
+                final int current = entryNode[entry];
+                final int currentDistance = distance[current];
+                if (currentDistance + estimate(current) != bucket) {
+                    // outdated entry, the tile was reached on a shorter path
+                    continue;
+                }
+                if (current == target) {
+                    return;
+                }
+                expandedNodes++;
+                for (final EdgeDirection direction : EdgeDirection.VALUES) {
+                    final int edgeId = grid.edgeId(current, direction);
+                    if (edgeId < 0 || edgeStamp[edgeId] != generation) {
+                        continue;
+                    }
+                    final int next = grid.neighbourIndex(current, direction);
+                    final int cost = edgeCostFunction.applyAsInt(current, next);
+                    if (cost < heuristicWeight) {
+                        throw new IllegalArgumentException(String.format(
+                                "Edge costs must not be smaller than %d: %d", heuristicWeight, cost));
+                    }
+                    final int newDistance = currentDistance + cost;
+                    if (stamp[next] != generation || newDistance < distance[next]) {
+                        stamp[next] = generation;
+                        distance[next] = newDistance;
+                        previous[next] = current;
+                        push(next, newDistance + estimate(next));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends the given tile to the bucket of the given priority.
+     *
+     * @param tile         the index of the tile
+     * @param tileDistance the priority of the tile, its distance plus the estimate
+     */
+    private void push(final int tile, final int tileDistance) {
+        if (tileDistance >= bucketHead.length) {
+            final int newLength = Math.max(bucketHead.length * 2, tileDistance + 1);
+            bucketHead = Arrays.copyOf(bucketHead, newLength);
+            bucketTail = Arrays.copyOf(bucketTail, newLength);
+        }
+        while (bucketCount <= tileDistance) {
+            bucketHead[bucketCount] = -1;
+            bucketTail[bucketCount] = -1;
+            bucketCount++;
+        }
+        if (entryCount == entryNode.length) {
+            entryNode = Arrays.copyOf(entryNode, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        final int entry = entryCount++;
+        entryNode[entry] = tile;
+        entryNext[entry] = -1;
+        if (bucketHead[tileDistance] < 0) {
+            bucketHead[tileDistance] = entry;
+        } else {
+            entryNext[bucketTail[tileDistance]] = entry;
+        }
+        bucketTail[tileDistance] = entry;
+    }
+
+    /**
+     * Starts a new search generation. Clears the stamps if the counter overflows.
+     */
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            Arrays.fill(edgeStamp, 0);
+            generation = 1;
+        }
+    }
+}
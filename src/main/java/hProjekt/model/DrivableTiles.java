@@ -0,0 +1,226 @@
+package hProjekt.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import hProjekt.model.TilePosition.EdgeDirection;
+
+/**
+ * The tiles a player can drive to with a dice roll on a
+ * {@link DenseHexGridImpl}, mapped to the path to drive along.
+ * <p>
+ * The search stores every queue entry as a tile index, the entry it was reached
+ * from and its driving cost in {@code int} arrays. The entries are appended in
+ * the order they are enqueued, so the arrays are the queue itself. Paths are not
+ * copied while searching; a path is only reconstructed from the predecessor
+ * entries when it is requested with {@link #get(Object)}.
+ * <p>
+ * Instances are immutable views of the result of {@link #search}.
+ */
+public final class DrivableTiles extends AbstractMap<Tile, List<Tile>> {
+
+    private final DenseHexGridImpl grid;
+    private final int startIndex;
+    private final int[] entryTile;
+    private final int[] entryPrevious;
+    private final int[] entryDistance;
+    private final Map<Tile, Integer> entries;
+    private Set<Entry<Tile, List<Tile>>> entrySet;
+
+    /**
+     * Creates a new view of a finished search.
+     *
+     * @param grid          the grid that was searched
+     * @param startIndex    the index of the start tile
+     * @param entryTile     the tile index of every entry
+     * @param entryPrevious the entry every entry was reached from or {@code -1}
+     * @param entryDistance the driving cost of every entry
+     * @param entries       the drivable tiles mapped to the entry of their path
+     */
+    private DrivableTiles(final DenseHexGridImpl grid, final int startIndex, final int[] entryTile,
+            final int[] entryPrevious, final int[] entryDistance, final Map<Tile, Integer> entries) {
+        this.grid = grid;
+        this.startIndex = startIndex;
+        this.entryTile = entryTile;
+        this.entryPrevious = entryPrevious;
+        this.entryDistance = entryDistance;
+        this.entries = entries;
+    }
+
+    /**
+     * Searches all tiles that can be driven to from the start tile using the
+     * available edges and the given dice roll.
+     * A tile can be driven to if it costs exactly the dice roll to reach it, or if
+     * the search can not continue from it without exceeding the dice roll. If the
+     * target tile can be reached without exceeding the dice roll, it is the only
+     * drivable tile.
+     * <p>
+     * The tiles are searched in the same order as by the generic search of
+     * {@link hProjekt.controller.PlayerController#getDrivableTiles()}, so the
+     * result is the same.
+     *
+     * @param grid             the grid to search in
+     * @param start            the index of the tile the player is on
+     * @param target           the index of the target tile
+     * @param availableEdgeIds the ids of the edges that may be driven on
+     * @param diceRoll         the dice roll
+     * @return the drivable tiles mapped to their paths
+     */
+    public static DrivableTiles search(final DenseHexGridImpl grid, final int start, final int target,
+            final BitSet availableEdgeIds, final int diceRoll) {
+        int[] entryTile = new int[16];
+        int[] entryPrevious = new int[16];
+        int[] entryDistance = new int[16];
+        int entryCount = 0;
+        final Map<Tile, Integer> entries = new HashMap<>();
+        final boolean[] visited = new boolean[grid.getTileCapacity()];
+
+        entryTile[entryCount] = start;
+        entryPrevious[entryCount] = -1;
+        entryDistance[entryCount++] = 0;
+        visited[start] = true;
+
+        for (int head = 0; head < entryCount; head++) {
+            if (head > 0 && entryDistance[head] == diceRoll) {
+                // the entry is only kept for the path to a drivable tile and not expanded
+                continue;
+            }
+            final int current = entryTile[head];
+            for (final EdgeDirection direction : EdgeDirection.VALUES) {
+                final int edgeId = grid.edgeId(current, direction);
+                if (edgeId < 0 || !availableEdgeIds.get(edgeId)) {
+                    continue;
+                }
+                final int next = grid.neighbourIndex(current, direction);
+                if (visited[next]) {
+                    continue;
+                }
+                final int newDistance = entryDistance[head] + grid.getDrivingCost(current, next);
+                if (newDistance <= diceRoll) {
+                    if (entryCount == entryTile.length) {
+                        entryTile = Arrays.copyOf(entryTile, entryCount * 2);
+                        entryPrevious = Arrays.copyOf(entryPrevious, entryCount * 2);
+                        entryDistance = Arrays.copyOf(entryDistance, entryCount * 2);
+                    }
+                    entryTile[entryCount] = next;
+                    entryPrevious[entryCount] = head;
+                    entryDistance[entryCount] = newDistance;
+                    final int entry = entryCount++;
+                    if (next == target) {
+                        return new DrivableTiles(grid, start, entryTile, entryPrevious, entryDistance,
+                                Map.of(grid.getTileAtIndex(next), entry));
+                    }
+                    if (newDistance == diceRoll) {
+                        entries.put(grid.getTileAtIndex(next), entry);
+                    }
+                } else {
+                    // the search ends here, unless the tile it was reached from is a drivable tile
+                    final int previous = entryPrevious[head] < 0 ? current : entryTile[entryPrevious[head]];
+                    if (!entries.containsKey(grid.getTileAtIndex(previous))) {
+                        entries.put(grid.getTileAtIndex(current), head);
+                    }
+                }
+            }
+            visited[current] = true;
+        }
+        return new DrivableTiles(grid, start, entryTile, entryPrevious, entryDistance, entries);
+    }
+
+    /**
+     * Returns the driving cost of the path to the given tile.
+     *
+     * @param tile the drivable tile
+     * @return the driving cost of the path to the tile or {@code -1} if the tile
+     *         can not be driven to
+     */
+    public int getDistance(final Tile tile) {
+        final Integer entry = entries.get(tile);
+        return entry == null ? -1 : entryDistance[entry];
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Returns the path to the given tile.
+     * The path is reconstructed from the predecessor entries on every call. Like
+     * the paths of the queue it replaces, it starts with the start tile twice and
+     * ends with the given tile.
+     *
+     * @param key the drivable tile
+     * @return the path to the tile as an unmodifiable list or {@code null} if the
+     *         tile can not be driven to
+     */
+    @Override
+    public List<Tile> get(final Object key) {
+        final Integer entry = entries.get(key);
+        return entry == null ? null : path(entry);
+    }
+
+    @Override
+    public Set<Tile> keySet() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    @Override
+    public Set<Entry<Tile, List<Tile>>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return entries.size();
+                }
+
+                @Override
+                public Iterator<Entry<Tile, List<Tile>>> iterator() {
+                    final Iterator<Entry<Tile, Integer>> iterator = entries.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Tile, List<Tile>> next() {
+                            final Entry<Tile, Integer> entry = iterator.next();
+                            return new SimpleImmutableEntry<>(entry.getKey(), path(entry.getValue()));
+                        }
+                    };
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    /**
+     * Reconstructs the path ending at the given entry.
+     *
+     * @param entry the last entry of the path
+     * @return the path as an unmodifiable list
+     */
+    private List<Tile> path(final int entry) {
+        final List<Tile> path = new ArrayList<>();
+        for (int current = entry; current >= 0; current = entryPrevious[current]) {
+            path.add(grid.getTileAtIndex(entryTile[current]));
+        }
+        path.add(grid.getTileAtIndex(startIndex));
+        Collections.reverse(path);
+        return Collections.unmodifiableList(path);
+    }
+}
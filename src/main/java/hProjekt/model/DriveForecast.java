@@ -0,0 +1,210 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import hProjekt.model.TilePosition.EdgeDirection;
+
+/**
+ * The cheapest driving costs from a start tile to all tiles of a
+ * {@link DenseHexGridImpl} that can be reached with a bounded cost, grouped by
+ * cost.
+ * <p>
+ * A single Dijkstra search with one bucket per cost (Dial's algorithm) is
+ * stopped at the largest dice roll, so the result answers the questions for
+ * every possible roll at once: which tiles can be reached with a roll of
+ * {@code k} and whether the target can be reached.
+ * <p>
+ * Instances are immutable.
+ */
+public final class DriveForecast {
+
+    private final DenseHexGridImpl grid;
+    private final int target;
+    private final int maxCost;
+    private final int[] tilesByCost;
+    private final int[] costStart;
+    private final int[] costOfTile;
+
+    /**
+     * Creates a new forecast from the tiles sorted by their cost.
+     *
+     * @param grid        the grid that was searched
+     * @param target      the index of the target tile
+     * @param maxCost     the largest cost that was searched
+     * @param tilesByCost the indices of all reached tiles sorted by their cost
+     * @param costStart   the position of the first tile of every cost in
+     *                    tilesByCost, with one additional entry for the end
+     * @param costOfTile  the cost of every tile index or {@code -1}
+     */
+    private DriveForecast(final DenseHexGridImpl grid, final int target, final int maxCost, final int[] tilesByCost,
+            final int[] costStart, final int[] costOfTile) {
+        this.grid = grid;
+        this.target = target;
+        this.maxCost = maxCost;
+        this.tilesByCost = tilesByCost;
+        this.costStart = costStart;
+        this.costOfTile = costOfTile;
+    }
+
+    /**
+     * Computes the cheapest driving costs from the start tile to all tiles that
+     * can be reached with at most the given cost using the available edges.
+     *
+     * @param grid             the grid to search in
+     * @param start            the index of the start tile
+     * @param target           the index of the target tile
+     * @param availableEdgeIds the ids of the edges that may be driven on
+     * @param maxCost          the largest cost to search, usually the number of
+     *                         sides of the dice
+     * @return the forecast
+     */
+    public static DriveForecast compute(final DenseHexGridImpl grid, final int start, final int target,
+            final BitSet availableEdgeIds, final int maxCost) {
+        final int[] costOfTile = new int[grid.getTileCapacity()];
+        Arrays.fill(costOfTile, -1);
+        final int[] tentative = new int[grid.getTileCapacity()];
+        Arrays.fill(tentative, Integer.MAX_VALUE);
+        final List<List<Integer>> buckets = new ArrayList<>(maxCost + 1);
+        for (int cost = 0; cost <= maxCost; cost++) {
+            buckets.add(new ArrayList<>());
+        }
+        final int[] costStart = new int[maxCost + 2];
+        int[] tilesByCost = new int[16];
+        int tileCount = 0;
+
+        tentative[start] = 0;
+        buckets.get(0).add(start);
+        for (int cost = 0; cost <= maxCost; cost++) {
+            costStart[cost] = tileCount;
+            final List<Integer> bucket = buckets.get(cost);
+            // the bucket may grow while it is processed if an edge has no cost
+            for (int i = 0; i < bucket.size(); i++) {
+                final int current = bucket.get(i);
+                if (costOfTile[current] >= 0 || tentative[current] != cost) {
+                    continue;
+                }
+                costOfTile[current] = cost;
+                if (tileCount == tilesByCost.length) {
+                    tilesByCost = Arrays.copyOf(tilesByCost, tileCount * 2);
+                }
+                tilesByCost[tileCount++] = current;
+                for (final EdgeDirection direction : EdgeDirection.VALUES) {
+                    final int edgeId = grid.edgeId(current, direction);
+                    if (edgeId < 0 || !availableEdgeIds.get(edgeId)) {
+                        continue;
+                    }
+                    final int next = grid.neighbourIndex(current, direction);
+                    final int newCost = cost + grid.getDrivingCost(current, next);
+                    if (newCost <= maxCost && newCost < tentative[next]) {
+                        tentative[next] = newCost;
+                        buckets.get(newCost).add(next);
+                    }
+                }
+            }
+        }
+        costStart[maxCost + 1] = tileCount;
+        return new DriveForecast(grid, target, maxCost, Arrays.copyOf(tilesByCost, tileCount), costStart,
+                costOfTile);
+    }
+
+    /**
+     * Returns the largest cost that was searched.
+     *
+     * @return the largest cost that was searched
+     */
+    public int getMaxCost() {
+        return maxCost;
+    }
+
+    /**
+     * Returns the cheapest driving cost to the given tile.
+     *
+     * @param tile the tile
+     * @return the cheapest driving cost or {@code -1} if the tile can not be
+     *         reached within the largest cost
+     */
+    public int getCost(final Tile tile) {
+        final int index = grid.tileIndex(tile.getPosition());
+        return index < 0 ? -1 : costOfTile[index];
+    }
+
+    /**
+     * Returns the tiles whose cheapest driving cost is exactly the given cost.
+     *
+     * @param cost the cost
+     * @return the tiles with the given cost as an unmodifiable list
+     */
+    public List<Tile> getTilesWithCost(final int cost) {
+        if (cost < 0 || cost > maxCost) {
+            return List.of();
+        }
+        return tiles(costStart[cost], costStart[cost + 1]);
+    }
+
+    /**
+     * Returns all tiles other than the start tile that can be reached with the
+     * given dice roll, ordered by their cost.
+     *
+     * @param diceRoll the dice roll
+     * @return the reachable tiles as an unmodifiable list
+     */
+    public List<Tile> getReachableTiles(final int diceRoll) {
+        final int end = costStart[Math.max(0, Math.min(diceRoll, maxCost)) + 1];
+        // the start tile is always the first tile
+        return tiles(Math.min(1, end), end);
+    }
+
+    /**
+     * Returns the cheapest driving cost to the target tile.
+     *
+     * @return the cheapest driving cost to the target tile or {@code -1} if it can
+     *         not be reached within the largest cost
+     */
+    public int getTargetCost() {
+        return target < 0 ? -1 : costOfTile[target];
+    }
+
+    /**
+     * Returns whether the target tile can be reached with the given dice roll.
+     *
+     * @param diceRoll the dice roll
+     * @return whether the target tile can be reached
+     */
+    public boolean canReachTarget(final int diceRoll) {
+        final int targetCost = getTargetCost();
+        return targetCost >= 0 && targetCost <= diceRoll;
+    }
+
+    /**
+     * Returns the probability of reaching the target tile with a single roll of a
+     * fair dice whose number of sides is the largest cost that was searched.
+     *
+     * @return the probability of reaching the target tile
+     */
+    public double getTargetProbability() {
+        final int targetCost = getTargetCost();
+        if (targetCost < 0 || maxCost <= 0) {
+            return 0;
+        }
+        return (maxCost - Math.max(targetCost, 1) + 1) / (double) maxCost;
+    }
+
+    /**
+     * Returns the tiles between the given positions of tilesByCost.
+     *
+     * @param from the first position, inclusive
+     * @param to   the last position, exclusive
+     * @return the tiles as an unmodifiable list
+     */
+    private List<Tile> tiles(final int from, final int to) {
+        final List<Tile> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(grid.getTileAtIndex(tilesByCost[i]));
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
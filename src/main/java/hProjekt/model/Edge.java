@@ -19,6 +19,17 @@ public interface Edge {
      */
     HexGrid getHexGrid();
 
+    /**
+     * Returns the id of this edge.
+     * The edges of a {@link DenseHexGridImpl} are numbered densely starting with
+     * {@code 0}, so the id can be used to index arrays.
+     *
+     * @return the id of this edge or {@code -1} if it has none
+     */
+    default int getId() {
+        return -1;
+    }
+
     /**
      * Returns the first position.
      *
@@ -103,6 +114,16 @@ public interface Edge {
      */
     List<Player> getRailOwners();
 
+    /**
+     * Returns whether the given player owns a rail on this edge.
+     *
+     * @param player the player to check for
+     * @return whether the given player owns a rail on this edge
+     */
+    default boolean isRailOwner(Player player) {
+        return getRailOwners().contains(player);
+    }
+
     /**
      * Returns the connected rails of the given player.
      *
@@ -5,15 +5,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
 
-import hProjekt.Config;
 import javafx.beans.property.Property;
-import javafx.util.Pair;
 
 /**
  * Default implementation of {@link Edge}.
@@ -21,15 +20,44 @@ import javafx.util.Pair;
  * @param grid       the HexGrid instance this edge is placed in
  * @param position1  the first position
  * @param position2  the second position
- * @param railOwners the road's owner, if a road has been built on this edge
+ * @param railOwners the road's owner, if a road has been built on this edge;
+ *                   {@code null} if the owners are stored in the
+ *                   {@link RailOwnership} of the grid
+ * @param id         the dense id of this edge in its grid or {@code -1} if it
+ *                   has none
  */
-public record EdgeImpl(HexGrid grid, TilePosition position1, TilePosition position2, Property<List<Player>> railOwners)
-        implements Edge {
+public record EdgeImpl(HexGrid grid, TilePosition position1, TilePosition position2, Property<List<Player>> railOwners,
+        int id) implements Edge {
+
+    /**
+     * The cost models of grids without a configuration, taken from
+     * {@link GameConfig#fromConfig()} on the first lookup for the grid.
+     */
+    private static final Map<HexGrid, CostModel> COST_MODELS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Alternative constructor for an edge without an id.
+     *
+     * @param grid       the HexGrid instance this edge is placed in
+     * @param position1  the first position
+     * @param position2  the second position
+     * @param railOwners the road's owner, if a road has been built on this edge
+     */
+    public EdgeImpl(final HexGrid grid, final TilePosition position1, final TilePosition position2,
+            final Property<List<Player>> railOwners) {
+        this(grid, position1, position2, railOwners, -1);
+    }
+
     @Override
     public HexGrid getHexGrid() {
         return grid;
     }
 
+    @Override
+    public int getId() {
+        return id;
+    }
+
     @Override
     public TilePosition getPosition1() {
         return position1;
@@ -40,9 +68,34 @@ public record EdgeImpl(HexGrid grid, TilePosition position1, TilePosition positi
         return position2;
     }
 
+    /**
+     * Returns the store of the rail owners of this edge.
+     *
+     * @return the rail ownership of the grid or {@code null} if this edge stores
+     *         its owners in its own property
+     */
+    private RailOwnership ownership() {
+        return railOwners == null ? ((DenseHexGridImpl) grid).getRailOwnership() : null;
+    }
+
+    /**
+     * Returns the cost model of the game this edge belongs to.
+     *
+     * @return the cost model of the configuration of the grid
+     */
+    private CostModel costModel() {
+        return grid instanceof HexGridImpl hexGrid ? hexGrid.getConfig().getCostModel()
+                : COST_MODELS.computeIfAbsent(grid, g -> GameConfig.fromConfig().getCostModel());
+    }
+
     @Override
     public Property<List<Player>> getRailOwnersProperty() {
-        return railOwners;
+        return railOwners == null ? ownership().getProperty(id) : railOwners;
+    }
+
+    @Override
+    public boolean isRailOwner(final Player player) {
+        return railOwners == null ? ownership().isOwner(id, player) : railOwners.getValue().contains(player);
     }
 
     @Override
@@ -54,24 +107,34 @@ public record EdgeImpl(HexGrid grid, TilePosition position1, TilePosition positi
 
     @Override
     public Map<Player, Integer> getRentingCost(Player player) {
-        if (getRailOwners().contains(player)) {
+        if (isRailOwner(player)) {
             return Map.of();
         }
-        return getRailOwners().stream().collect(Collectors.toMap(p -> p, p -> 1));
+        final Map<Player, Integer> result = new HashMap<>();
+        for (final Player owner : getRailOwners()) {
+            result.put(owner, 1);
+        }
+        return result;
     }
 
     @Override
     public int getDrivingCost(TilePosition from) {
-        if (!getAdjacentTilePositions().contains(from)) {
+        final boolean fromPosition1 = getPosition1().equals(from);
+        if (!fromPosition1 && !getPosition2().equals(from)) {
             throw new IllegalArgumentException("The given position is not adjacent to this edge.");
         }
-        return Config.TILE_TYPE_TO_DRIVING_COST.get(new Pair<Tile.Type, Tile.Type>(
-                getHexGrid().getTileAt(from).getType(),
-                getHexGrid().getTileAt(getPosition1().equals(from) ? getPosition2() : getPosition1()).getType()));
+        if (getHexGrid() instanceof DenseHexGridImpl dense && dense.isIndexed() && id >= 0) {
+            return dense.getDrivingCost(id, fromPosition1);
+        }
+        return costModel().getDrivingCost(getHexGrid().getTileAt(from).getType(),
+                getHexGrid().getTileAt(fromPosition1 ? getPosition2() : getPosition1()).getType());
     }
 
     @Override
     public int getTotalBuildingCost(Player player) {
+        if (railOwners == null && ((DenseHexGridImpl) grid).isIndexed()) {
+            return ((DenseHexGridImpl) grid).getBuildingCostCache().getTotalBuildingCost(id, player);
+        }
         return getBaseBuildingCost() + getTotalParallelCost(player);
     }
 
@@ -82,6 +145,9 @@ public record EdgeImpl(HexGrid grid, TilePosition position1, TilePosition positi
 
     @Override
     public Map<Player, Integer> getParallelCostPerPlayer(Player player) {
+        if (railOwners == null) {
+            return getParallelCostPerPlayer(player, (DenseHexGridImpl) grid);
+        }
         final Map<Player, Integer> result = new HashMap<>();
         if ((!getRailOwners().isEmpty()) && (!((getRailOwners().size() == 1) && getRailOwners().contains(player)))) {
             if (Collections.disjoint(getHexGrid().getCities().keySet(), getAdjacentTilePositions())) {
@@ -105,15 +171,54 @@ public record EdgeImpl(HexGrid grid, TilePosition position1, TilePosition positi
         return result;
     }
 
+    /**
+     * Computes the parallel costs with the owner masks of the given grid.
+     * Produces the same result as the generic implementation of
+     * {@link #getParallelCostPerPlayer(Player)}.
+     *
+     * @param player the player to calculate the parallel cost for
+     * @param dense  the grid of this edge
+     * @return a map of players and the credits that need to be paid to them
+     */
+    private Map<Player, Integer> getParallelCostPerPlayer(final Player player, final DenseHexGridImpl dense) {
+        final RailOwnership ownership = dense.getRailOwnership();
+        final long playerBit = ownership.bitOf(player);
+        final long edgeOwners = ownership.getMask(id);
+        final Map<Player, Integer> result = new HashMap<>();
+        if (edgeOwners != 0 && edgeOwners != playerBit) {
+            final int cost = dense.getCityAt(position1) == null && dense.getCityAt(position2) == null ? 5 : 3;
+            for (final Player owner : ownership.getPlayers(edgeOwners)) {
+                result.put(owner, cost);
+            }
+        }
+        long neighbourOwners = 0;
+        for (final TilePosition position : List.of(position1, position2)) {
+            if (dense.getCityAt(position) != null) {
+                continue;
+            }
+            final long tileOwners = dense.getTileRailOwners().getMaskExcluding(dense.tileIndex(position), this);
+            if ((tileOwners & playerBit) == 0) {
+                neighbourOwners |= tileOwners;
+            }
+        }
+        for (final Player owner : ownership.getPlayers(neighbourOwners)) {
+            result.putIfAbsent(owner, 1);
+        }
+        return result;
+    }
+
     @Override
     public int getBaseBuildingCost() {
-        return Config.TILE_TYPE_TO_BUILDING_COST.get(getAdjacentTilePositions().stream()
-                .map(position -> getHexGrid().getTileAt(position).getType()).collect(Collectors.toUnmodifiableSet()));
+        if (getHexGrid() instanceof DenseHexGridImpl dense && dense.isIndexed() && id >= 0) {
+            return dense.getBaseBuildingCost(id);
+        }
+        return costModel().getBuildingCost(getHexGrid().getTileAt(getPosition1()).getType(),
+                getHexGrid().getTileAt(getPosition2()).getType());
     }
 
     @Override
     public List<Player> getRailOwners() {
-        return getRailOwnersProperty().getValue();
+        return railOwners == null ? ownership().getOwners(id) : railOwners.getValue();
     }
 
     @Override
@@ -130,7 +235,10 @@ public record EdgeImpl(HexGrid grid, TilePosition position1, TilePosition positi
 
     @Override
     public boolean hasRail() {
-        return (getRailOwnersProperty().getValue() != null) && (!getRailOwnersProperty().getValue().isEmpty());
+        if (railOwners == null) {
+            return ownership().getMask(id) != 0;
+        }
+        return (railOwners.getValue() != null) && (!railOwners.getValue().isEmpty());
     }
 
     @Override
@@ -0,0 +1,737 @@
+package hProjekt.model;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import hProjekt.Config;
+import hProjekt.controller.AiExecutionService;
+import javafx.util.Pair;
+
+/**
+ * An immutable snapshot of the rule parameters of a game.
+ * A game captures its configuration when it is created, so that changing
+ * {@link Config} afterwards, for example in the settings menu, only affects
+ * games created later. Games with different configurations can run side by side
+ * in the same JVM.
+ * <p>
+ * {@link #fromConfig()} takes a snapshot of the current values of
+ * {@link Config}. Other configurations are created with a {@link Builder} that
+ * starts from such a snapshot.
+ * <p>
+ * Besides the rule parameters, a configuration carries the source of randomness
+ * of its games, so that games with their own seeded generator are reproducible
+ * even if other games draw numbers at the same time, and the
+ * {@link AiExecutionService} their AI controllers decide on.
+ * <p>
+ * The {@link #isTurboMode() turbo mode} is the only setting that can be changed
+ * while a game is running.
+ */
+public final class GameConfig {
+
+    private final int diceSides;
+    private final int numberOfStartingCities;
+    private final int numberOfCities;
+    private final int unconnectedCitiesStartThreshold;
+    private final double cityBaseProbability;
+    private final double cityAtCoastProbability;
+    private final double cityNearMountainProbability;
+    private final int cityNearMountainRadius;
+    private final double cityNearCityProbability;
+    private final int cityNearCityRadius;
+    private final int minPlayers;
+    private final int maxPlayers;
+    private final int startingCredits;
+    private final int cityConnectionBonus;
+    private final int mapScale;
+    private final int maxRentableDistance;
+    private final int pathCacheSize;
+    private final Map<Set<Tile.Type>, Integer> tileTypeToBuildingCost;
+    private final Map<Pair<Tile.Type, Tile.Type>, Integer> tileTypeToDrivingCost;
+    private final List<Integer> winningCredits;
+    private final int maxBuildingBudgetDrivingPhase;
+    private final CostModel costModel;
+    private final Random random;
+    private final AiExecutionService aiExecutionService;
+    private final AtomicBoolean turboMode;
+
+    /**
+     * Creates a new configuration with the values of the given builder.
+     *
+     * @param builder the builder
+     */
+    private GameConfig(final Builder builder) {
+        this.diceSides = builder.diceSides;
+        this.numberOfStartingCities = builder.numberOfStartingCities;
+        this.numberOfCities = builder.numberOfCities;
+        this.unconnectedCitiesStartThreshold = builder.unconnectedCitiesStartThreshold;
+        this.cityBaseProbability = builder.cityBaseProbability;
+        this.cityAtCoastProbability = builder.cityAtCoastProbability;
+        this.cityNearMountainProbability = builder.cityNearMountainProbability;
+        this.cityNearMountainRadius = builder.cityNearMountainRadius;
+        this.cityNearCityProbability = builder.cityNearCityProbability;
+        this.cityNearCityRadius = builder.cityNearCityRadius;
+        this.minPlayers = builder.minPlayers;
+        this.maxPlayers = builder.maxPlayers;
+        this.startingCredits = builder.startingCredits;
+        this.cityConnectionBonus = builder.cityConnectionBonus;
+        this.mapScale = builder.mapScale;
+        this.maxRentableDistance = builder.maxRentableDistance;
+        this.pathCacheSize = builder.pathCacheSize;
+        this.tileTypeToBuildingCost = Map.copyOf(builder.tileTypeToBuildingCost);
+        this.tileTypeToDrivingCost = Map.copyOf(builder.tileTypeToDrivingCost);
+        this.winningCredits = List.copyOf(builder.winningCredits);
+        this.maxBuildingBudgetDrivingPhase = builder.maxBuildingBudgetDrivingPhase;
+        this.costModel = CostModel.of(tileTypeToBuildingCost, tileTypeToDrivingCost);
+        this.random = builder.random;
+        this.aiExecutionService = builder.aiExecutionService != null ? builder.aiExecutionService
+                : new AiExecutionService(Config.AI_THREADS, Duration.ofMillis(Config.AI_DECISION_TIME_BUDGET));
+        this.turboMode = new AtomicBoolean(builder.turboMode);
+    }
+
+    /**
+     * Returns a snapshot of the current values of {@link Config}.
+     *
+     * @return the snapshot
+     * @throws IllegalStateException if a combination of tile types has no cost
+     */
+    public static GameConfig fromConfig() {
+        return new Builder().build();
+    }
+
+    /**
+     * Returns the configuration of the given grid or a snapshot of the current
+     * values of {@link Config} if the grid was not created for a configuration.
+     *
+     * @param grid the grid
+     * @return the configuration of the grid
+     */
+    public static GameConfig of(final HexGrid grid) {
+        return grid instanceof HexGridImpl gridImpl ? gridImpl.getConfig() : fromConfig();
+    }
+
+    /**
+     * Returns a builder that starts from the values of this configuration.
+     *
+     * @return the builder
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    /**
+     * Returns the number of sides on each die.
+     *
+     * @return the number of sides on each die
+     * @see Config#DICE_SIDES
+     */
+    public int getDiceSides() {
+        return diceSides;
+    }
+
+    /**
+     * Returns the number of starting cities.
+     *
+     * @return the number of starting cities
+     * @see Config#NUMBER_OF_STARTING_CITIES
+     */
+    public int getNumberOfStartingCities() {
+        return numberOfStartingCities;
+    }
+
+    /**
+     * Returns the number of cities.
+     *
+     * @return the number of cities
+     * @see Config#NUMBER_OF_CITIES
+     */
+    public int getNumberOfCities() {
+        return numberOfCities;
+    }
+
+    /**
+     * Returns the number of unconnected cities at which the driving phase starts.
+     *
+     * @return the number of unconnected cities at which the driving phase starts
+     * @see Config#UNCONNECTED_CITIES_START_THRESHOLD
+     */
+    public int getUnconnectedCitiesStartThreshold() {
+        return unconnectedCitiesStartThreshold;
+    }
+
+    /**
+     * Returns the probability of placing a city.
+     *
+     * @return the probability of placing a city
+     * @see Config#CITY_BASE_PROBABILTY
+     */
+    public double getCityBaseProbability() {
+        return cityBaseProbability;
+    }
+
+    /**
+     * Returns the probability of placing a city at the coast.
+     *
+     * @return the probability of placing a city at the coast
+     * @see Config#CITY_AT_COAST_PROBABILTY
+     */
+    public double getCityAtCoastProbability() {
+        return cityAtCoastProbability;
+    }
+
+    /**
+     * Returns the probability of placing a city near a mountain.
+     *
+     * @return the probability of placing a city near a mountain
+     * @see Config#CITY_NEAR_MOUNTAIN_PROBABILTY
+     */
+    public double getCityNearMountainProbability() {
+        return cityNearMountainProbability;
+    }
+
+    /**
+     * Returns the radius in which a city is near a mountain.
+     *
+     * @return the radius in which a city is near a mountain
+     * @see Config#CITY_NEAR_MOUNTAIN_RADIUS
+     */
+    public int getCityNearMountainRadius() {
+        return cityNearMountainRadius;
+    }
+
+    /**
+     * Returns the probability of placing a city near another city.
+     *
+     * @return the probability of placing a city near another city
+     * @see Config#CITY_NEAR_CITY_PROBABILTY
+     */
+    public double getCityNearCityProbability() {
+        return cityNearCityProbability;
+    }
+
+    /**
+     * Returns the radius in which a city is near another city.
+     *
+     * @return the radius in which a city is near another city
+     * @see Config#CITY_NEAR_CITY_RADIUS
+     */
+    public int getCityNearCityRadius() {
+        return cityNearCityRadius;
+    }
+
+    /**
+     * Returns the minimum number of players.
+     *
+     * @return the minimum number of players
+     * @see Config#MIN_PLAYERS
+     */
+    public int getMinPlayers() {
+        return minPlayers;
+    }
+
+    /**
+     * Returns the maximum number of players.
+     *
+     * @return the maximum number of players
+     * @see Config#MAX_PLAYERS
+     */
+    public int getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    /**
+     * Returns the number of credits every player starts with.
+     *
+     * @return the number of credits every player starts with
+     * @see Config#STARTING_CREDITS
+     */
+    public int getStartingCredits() {
+        return startingCredits;
+    }
+
+    /**
+     * Returns the number of credits for connecting a city first.
+     *
+     * @return the number of credits for connecting a city first
+     * @see Config#CITY_CONNECTION_BONUS
+     */
+    public int getCityConnectionBonus() {
+        return cityConnectionBonus;
+    }
+
+    /**
+     * Returns the scale of the map.
+     *
+     * @return the scale of the map
+     * @see Config#MAP_SCALE
+     */
+    public int getMapScale() {
+        return mapScale;
+    }
+
+    /**
+     * Returns the maximum number of rails a player can rent.
+     *
+     * @return the maximum number of rails a player can rent
+     * @see Config#MAX_RENTABLE_DISTANCE
+     */
+    public int getMaxRentableDistance() {
+        return maxRentableDistance;
+    }
+
+    /**
+     * Returns the maximum number of driving paths cached per map.
+     *
+     * @return the maximum number of driving paths cached per map
+     * @see Config#PATH_CACHE_SIZE
+     */
+    public int getPathCacheSize() {
+        return pathCacheSize;
+    }
+
+    /**
+     * Returns the building costs between tile types as an unmodifiable map.
+     *
+     * @return the building costs between tile types
+     * @see Config#TILE_TYPE_TO_BUILDING_COST
+     */
+    public Map<Set<Tile.Type>, Integer> getTileTypeToBuildingCost() {
+        return tileTypeToBuildingCost;
+    }
+
+    /**
+     * Returns the driving costs between tile types as an unmodifiable map.
+     *
+     * @return the driving costs between tile types
+     * @see Config#TILE_TYPE_TO_DRIVING_COST
+     */
+    public Map<Pair<Tile.Type, Tile.Type>, Integer> getTileTypeToDrivingCost() {
+        return tileTypeToDrivingCost;
+    }
+
+    /**
+     * Returns the credits for the first players to arrive as an unmodifiable list.
+     *
+     * @return the credits for the first players to arrive
+     * @see Config#WINNING_CREDITS
+     */
+    public List<Integer> getWinningCredits() {
+        return winningCredits;
+    }
+
+    /**
+     * Returns the building budget of every player during the driving phase.
+     *
+     * @return the building budget of every player during the driving phase
+     * @see Config#MAX_BUILDINGBUDGET_DRIVING_PHASE
+     */
+    public int getMaxBuildingBudgetDrivingPhase() {
+        return maxBuildingBudgetDrivingPhase;
+    }
+
+    /**
+     * Returns the building and driving costs compiled into a {@link CostModel}.
+     *
+     * @return the cost model
+     */
+    public CostModel getCostModel() {
+        return costModel;
+    }
+
+    /**
+     * Returns the source of randomness of the game.
+     *
+     * @return the source of randomness of the game
+     * @see Config#RANDOM
+     */
+    public Random getRandom() {
+        return random;
+    }
+
+    /**
+     * Returns the service the AI controllers of the game decide on.
+     * Unless another service was set, every configuration created by a builder
+     * has its own service with {@link Config#AI_THREADS} threads and a time
+     * budget of {@link Config#AI_DECISION_TIME_BUDGET}. Configurations created
+     * with {@link #toBuilder()} share the service of this configuration.
+     *
+     * @return the AI execution service
+     */
+    public AiExecutionService getAiExecutionService() {
+        return aiExecutionService;
+    }
+
+    /**
+     * Returns whether the game runs in turbo mode.
+     * In turbo mode the AI controllers decide without waiting for
+     * {@link Config#AI_ACTION_DELAY}, and the board shows the dice, the chosen
+     * cities and the trains without animations.
+     *
+     * @return whether the game runs in turbo mode
+     * @see Config#TURBO_MODE
+     */
+    public boolean isTurboMode() {
+        return turboMode.get();
+    }
+
+    /**
+     * Switches the turbo mode of the game on or off.
+     * Can be called while the game is running, from any thread.
+     *
+     * @param turboMode whether the game runs in turbo mode
+     */
+    public void setTurboMode(final boolean turboMode) {
+        this.turboMode.set(turboMode);
+    }
+
+    /**
+     * A builder for {@link GameConfig}s.
+     * A new builder starts from the current values of {@link Config}.
+     */
+    public static class Builder {
+        private int diceSides = Config.DICE_SIDES;
+        private int numberOfStartingCities = Config.NUMBER_OF_STARTING_CITIES;
+        private int numberOfCities = Config.NUMBER_OF_CITIES;
+        private int unconnectedCitiesStartThreshold = Config.UNCONNECTED_CITIES_START_THRESHOLD;
+        private double cityBaseProbability = Config.CITY_BASE_PROBABILTY;
+        private double cityAtCoastProbability = Config.CITY_AT_COAST_PROBABILTY;
+        private double cityNearMountainProbability = Config.CITY_NEAR_MOUNTAIN_PROBABILTY;
+        private int cityNearMountainRadius = Config.CITY_NEAR_MOUNTAIN_RADIUS;
+        private double cityNearCityProbability = Config.CITY_NEAR_CITY_PROBABILTY;
+        private int cityNearCityRadius = Config.CITY_NEAR_CITY_RADIUS;
+        private int minPlayers = Config.MIN_PLAYERS;
+        private int maxPlayers = Config.MAX_PLAYERS;
+        private int startingCredits = Config.STARTING_CREDITS;
+        private int cityConnectionBonus = Config.CITY_CONNECTION_BONUS;
+        private int mapScale = Config.MAP_SCALE;
+        private int maxRentableDistance = Config.MAX_RENTABLE_DISTANCE;
+        private int pathCacheSize = Config.PATH_CACHE_SIZE;
+        private Map<Set<Tile.Type>, Integer> tileTypeToBuildingCost = Config.TILE_TYPE_TO_BUILDING_COST;
+        private Map<Pair<Tile.Type, Tile.Type>, Integer> tileTypeToDrivingCost = Config.TILE_TYPE_TO_DRIVING_COST;
+        private List<Integer> winningCredits = Config.WINNING_CREDITS;
+        private int maxBuildingBudgetDrivingPhase = Config.MAX_BUILDINGBUDGET_DRIVING_PHASE;
+        private Random random = Config.RANDOM;
+        private AiExecutionService aiExecutionService;
+        private boolean turboMode = Config.TURBO_MODE;
+
+        /**
+         * Creates a new builder with the current values of {@link Config}.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Creates a new builder with the values of the given configuration.
+         *
+         * @param config the configuration to start from
+         */
+        private Builder(final GameConfig config) {
+            this.diceSides = config.diceSides;
+            this.numberOfStartingCities = config.numberOfStartingCities;
+            this.numberOfCities = config.numberOfCities;
+            this.unconnectedCitiesStartThreshold = config.unconnectedCitiesStartThreshold;
+            this.cityBaseProbability = config.cityBaseProbability;
+            this.cityAtCoastProbability = config.cityAtCoastProbability;
+            this.cityNearMountainProbability = config.cityNearMountainProbability;
+            this.cityNearMountainRadius = config.cityNearMountainRadius;
+            this.cityNearCityProbability = config.cityNearCityProbability;
+            this.cityNearCityRadius = config.cityNearCityRadius;
+            this.minPlayers = config.minPlayers;
+            this.maxPlayers = config.maxPlayers;
+            this.startingCredits = config.startingCredits;
+            this.cityConnectionBonus = config.cityConnectionBonus;
+            this.mapScale = config.mapScale;
+            this.maxRentableDistance = config.maxRentableDistance;
+            this.pathCacheSize = config.pathCacheSize;
+            this.tileTypeToBuildingCost = config.tileTypeToBuildingCost;
+            this.tileTypeToDrivingCost = config.tileTypeToDrivingCost;
+            this.winningCredits = config.winningCredits;
+            this.maxBuildingBudgetDrivingPhase = config.maxBuildingBudgetDrivingPhase;
+            this.random = config.random;
+            this.aiExecutionService = config.aiExecutionService;
+            this.turboMode = config.isTurboMode();
+        }
+
+        /**
+         * Sets the number of sides on each die.
+         *
+         * @param diceSides the number of sides on each die
+         * @return this builder
+         */
+        public Builder diceSides(final int diceSides) {
+            this.diceSides = diceSides;
+            return this;
+        }
+
+        /**
+         * Sets the number of starting cities.
+         *
+         * @param numberOfStartingCities the number of starting cities
+         * @return this builder
+         */
+        public Builder numberOfStartingCities(final int numberOfStartingCities) {
+            this.numberOfStartingCities = numberOfStartingCities;
+            return this;
+        }
+
+        /**
+         * Sets the number of cities.
+         *
+         * @param numberOfCities the number of cities
+         * @return this builder
+         */
+        public Builder numberOfCities(final int numberOfCities) {
+            this.numberOfCities = numberOfCities;
+            return this;
+        }
+
+        /**
+         * Sets the number of unconnected cities at which the driving phase starts.
+         *
+         * @param unconnectedCitiesStartThreshold the number of unconnected cities
+         * @return this builder
+         */
+        public Builder unconnectedCitiesStartThreshold(final int unconnectedCitiesStartThreshold) {
+            this.unconnectedCitiesStartThreshold = unconnectedCitiesStartThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the probability of placing a city.
+         *
+         * @param cityBaseProbability the probability of placing a city
+         * @return this builder
+         */
+        public Builder cityBaseProbability(final double cityBaseProbability) {
+            this.cityBaseProbability = cityBaseProbability;
+            return this;
+        }
+
+        /**
+         * Sets the probability of placing a city at the coast.
+         *
+         * @param cityAtCoastProbability the probability of placing a city at the coast
+         * @return this builder
+         */
+        public Builder cityAtCoastProbability(final double cityAtCoastProbability) {
+            this.cityAtCoastProbability = cityAtCoastProbability;
+            return this;
+        }
+
+        /**
+         * Sets the probability of placing a city near a mountain.
+         *
+         * @param cityNearMountainProbability the probability of placing a city near a
+         *                                    mountain
+         * @return this builder
+         */
+        public Builder cityNearMountainProbability(final double cityNearMountainProbability) {
+            this.cityNearMountainProbability = cityNearMountainProbability;
+            return this;
+        }
+
+        /**
+         * Sets the radius in which a city is near a mountain.
+         *
+         * @param cityNearMountainRadius the radius in which a city is near a mountain
+         * @return this builder
+         */
+        public Builder cityNearMountainRadius(final int cityNearMountainRadius) {
+            this.cityNearMountainRadius = cityNearMountainRadius;
+            return this;
+        }
+
+        /**
+         * Sets the probability of placing a city near another city.
+         *
+         * @param cityNearCityProbability the probability of placing a city near
+         *                                another city
+         * @return this builder
+         */
+        public Builder cityNearCityProbability(final double cityNearCityProbability) {
+            this.cityNearCityProbability = cityNearCityProbability;
+            return this;
+        }
+
+        /**
+         * Sets the radius in which a city is near another city.
+         *
+         * @param cityNearCityRadius the radius in which a city is near another city
+         * @return this builder
+         */
+        public Builder cityNearCityRadius(final int cityNearCityRadius) {
+            this.cityNearCityRadius = cityNearCityRadius;
+            return this;
+        }
+
+        /**
+         * Sets the minimum number of players.
+         *
+         * @param minPlayers the minimum number of players
+         * @return this builder
+         */
+        public Builder minPlayers(final int minPlayers) {
+            this.minPlayers = minPlayers;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of players.
+         *
+         * @param maxPlayers the maximum number of players
+         * @return this builder
+         */
+        public Builder maxPlayers(final int maxPlayers) {
+            this.maxPlayers = maxPlayers;
+            return this;
+        }
+
+        /**
+         * Sets the number of credits every player starts with.
+         *
+         * @param startingCredits the number of credits every player starts with
+         * @return this builder
+         */
+        public Builder startingCredits(final int startingCredits) {
+            this.startingCredits = startingCredits;
+            return this;
+        }
+
+        /**
+         * Sets the number of credits for connecting a city first.
+         *
+         * @param cityConnectionBonus the number of credits for connecting a city
+         *                            first
+         * @return this builder
+         */
+        public Builder cityConnectionBonus(final int cityConnectionBonus) {
+            this.cityConnectionBonus = cityConnectionBonus;
+            return this;
+        }
+
+        /**
+         * Sets the scale of the map.
+         *
+         * @param mapScale the scale of the map
+         * @return this builder
+         */
+        public Builder mapScale(final int mapScale) {
+            this.mapScale = mapScale;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of rails a player can rent.
+         *
+         * @param maxRentableDistance the maximum number of rails a player can rent
+         * @return this builder
+         */
+        public Builder maxRentableDistance(final int maxRentableDistance) {
+            this.maxRentableDistance = maxRentableDistance;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of driving paths cached per map.
+         *
+         * @param pathCacheSize the maximum number of driving paths cached per map
+         * @return this builder
+         */
+        public Builder pathCacheSize(final int pathCacheSize) {
+            this.pathCacheSize = pathCacheSize;
+            return this;
+        }
+
+        /**
+         * Sets the building costs between tile types.
+         *
+         * @param tileTypeToBuildingCost the building costs between tile types
+         * @return this builder
+         */
+        public Builder tileTypeToBuildingCost(final Map<Set<Tile.Type>, Integer> tileTypeToBuildingCost) {
+            this.tileTypeToBuildingCost = tileTypeToBuildingCost;
+            return this;
+        }
+
+        /**
+         * Sets the driving costs between tile types.
+         *
+         * @param tileTypeToDrivingCost the driving costs between tile types
+         * @return this builder
+         */
+        public Builder tileTypeToDrivingCost(final Map<Pair<Tile.Type, Tile.Type>, Integer> tileTypeToDrivingCost) {
+            this.tileTypeToDrivingCost = tileTypeToDrivingCost;
+            return this;
+        }
+
+        /**
+         * Sets the credits for the first players to arrive.
+         *
+         * @param winningCredits the credits for the first players to arrive
+         * @return this builder
+         */
+        public Builder winningCredits(final List<Integer> winningCredits) {
+            this.winningCredits = winningCredits;
+            return this;
+        }
+
+        /**
+         * Sets the building budget of every player during the driving phase.
+         *
+         * @param maxBuildingBudgetDrivingPhase the building budget during the driving
+         *                                      phase
+         * @return this builder
+         */
+        public Builder maxBuildingBudgetDrivingPhase(final int maxBuildingBudgetDrivingPhase) {
+            this.maxBuildingBudgetDrivingPhase = maxBuildingBudgetDrivingPhase;
+            return this;
+        }
+
+        /**
+         * Sets the source of randomness of the game.
+         *
+         * @param random the source of randomness of the game
+         * @return this builder
+         */
+        public Builder random(final Random random) {
+            this.random = random;
+            return this;
+        }
+
+        /**
+         * Sets the service the AI controllers of the game decide on.
+         *
+         * @param aiExecutionService the AI execution service or {@code null} to
+         *                           create a new one
+         * @return this builder
+         */
+        public Builder aiExecutionService(final AiExecutionService aiExecutionService) {
+            this.aiExecutionService = aiExecutionService;
+            return this;
+        }
+
+        /**
+         * Sets whether the game starts in turbo mode.
+         *
+         * @param turboMode whether the game starts in turbo mode
+         * @return this builder
+         */
+        public Builder turboMode(final boolean turboMode) {
+            this.turboMode = turboMode;
+            return this;
+        }
+
+        /**
+         * Creates a new configuration with the values of this builder.
+         *
+         * @return the new configuration
+         * @throws IllegalStateException if a combination of tile types has no cost
+         */
+        public GameConfig build() {
+            return new GameConfig(this);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package hProjekt.model;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,20 +24,41 @@ import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableDoubleValue;
-import javafx.util.Pair;
 
 /**
  * Default implementation of {@link HexGrid}.
  */
 public class HexGridImpl implements HexGrid {
 
+    /**
+     * The number of q- and r-coordinates covered by a bucket of the spatial
+     * indices.
+     */
+    private static final int SPATIAL_INDEX_BUCKET_SIZE = 4;
+
     private final Map<TilePosition, Tile> tiles = new HashMap<>();
+    /**
+     * The positions of all tiles in the order they were added, used to sample
+     * random tiles in constant time.
+     */
+    private final List<TilePosition> tilePositions = new ArrayList<>();
     private final Map<Set<TilePosition>, Edge> edges = new HashMap<>();
     private final Map<TilePosition, City> cities = new HashMap<>();
+    private final HexSpatialIndex<City> cityIndex = new HexSpatialIndex<>(SPATIAL_INDEX_BUCKET_SIZE);
+    private final HexSpatialIndex<Tile> mountainIndex = new HexSpatialIndex<>(SPATIAL_INDEX_BUCKET_SIZE);
     private final ObservableDoubleValue tileWidth;
     private final ObservableDoubleValue tileHeight;
     private final DoubleProperty tileSize = new SimpleDoubleProperty(50);
-    private final Random random = Config.RANDOM;
+    /**
+     * The source of randomness of the map, {@link Config#RANDOM} unless the grid
+     * was created for a configuration.
+     */
+    private Random random = Config.RANDOM;
+    /**
+     * The configuration of the game, a snapshot of {@link Config} unless the grid
+     * was created for a configuration.
+     */
+    private GameConfig config = GameConfig.fromConfig();
 
     /**
      * Creates a new HexGrid with the given scale.
@@ -55,6 +77,28 @@ public class HexGridImpl implements HexGrid {
         initCities(numberOfCities, new NameGenerator(names, 3, random));
     }
 
+    /**
+     * Creates a new HexGrid with the map scale and number of cities of the given
+     * configuration.
+     * Like {@link #HexGridImpl(int, int, String[])}, it passes the grid to the
+     * tiles and edges it creates before a subclass is initialized, see
+     * {@link DenseHexGridImpl#getRails(Player)}.
+     *
+     * @param config the configuration of the game
+     * @param names  the names to use for the cities
+     */
+    @SuppressWarnings("this-escape")
+    public HexGridImpl(final GameConfig config, final String[] names) {
+        this.config = config;
+        this.random = config.getRandom();
+        this.tileHeight = Bindings.createDoubleBinding(() -> tileSize.get() * 2, tileSize);
+        this.tileWidth = Bindings.createDoubleBinding(() -> Math.sqrt(3) * tileSize.get(), tileSize);
+        generateTiles(config.getMapScale());
+        initEdges();
+
+        placeCities(config.getNumberOfCities(), new NameGenerator(names, 3, random));
+    }
+
     /**
      * Creates a new HexGrid with the default values.
      *
@@ -73,9 +117,28 @@ public class HexGridImpl implements HexGrid {
      */
     public HexGridImpl(final Map<TilePosition, Tile> tiles, final Map<Set<TilePosition>, Edge> edges,
             final Map<TilePosition, City> cities) {
+        this(GameConfig.fromConfig(), tiles, edges, cities);
+    }
+
+    /**
+     * Creates a new HexGrid with the given configuration, tiles, edges, and
+     * cities.
+     *
+     * @param config the configuration of the game
+     * @param tiles  the tiles
+     * @param edges  the edges
+     * @param cities the cities
+     */
+    public HexGridImpl(final GameConfig config, final Map<TilePosition, Tile> tiles,
+            final Map<Set<TilePosition>, Edge> edges, final Map<TilePosition, City> cities) {
+        this.config = config;
         this.tiles.putAll(tiles);
+        this.tilePositions.addAll(tiles.keySet().stream().sorted().toList());
         this.edges.putAll(edges);
         this.cities.putAll(cities);
+        tiles.values().stream().filter(tile -> tile.getType() == Tile.Type.MOUNTAIN)
+                .forEach(tile -> mountainIndex.put(tile.getPosition(), tile));
+        cities.forEach(cityIndex::put);
         this.tileHeight = Bindings.createDoubleBinding(() -> tileSize.get() * 2, tileSize);
         this.tileWidth = Bindings.createDoubleBinding(() -> Math.sqrt(3) * tileSize.get(), tileSize);
     }
@@ -147,6 +210,30 @@ public class HexGridImpl implements HexGrid {
         }
     }
 
+    /**
+     * Generates the tiles like {@link #initTiles(int)}, but draws the start of
+     * each random walk from the list of tile positions in constant time instead
+     * of skipping through the tile map.
+     * The walks therefore start at other tiles than those of
+     * {@link #initTiles(int)}, so the same seed produces a different map.
+     *
+     * @param gridScale the scale of the grid
+     */
+    private void generateTiles(final int gridScale) {
+        final TilePosition center = new TilePosition(0, 0);
+        addTile(center, Tile.Type.PLAIN);
+
+        for (int i = 0; i < 10 * gridScale; i++) {
+            TilePosition start = tilePositions.get(random.nextInt(tilePositions.size()));
+            doRandomWalk(start, Tile.Type.PLAIN, 3 * gridScale);
+        }
+
+        for (int i = 0; i < 4 * gridScale; i++) {
+            TilePosition start = tilePositions.get(random.nextInt(tilePositions.size()));
+            doRandomWalk(start, Tile.Type.MOUNTAIN, (int) (0.5 * gridScale));
+        }
+    }
+
     /**
      * Initializes the cities in this grid.
      * The cities will be placed randomly on the map.
@@ -204,6 +291,73 @@ public class HexGridImpl implements HexGrid {
         }
     }
 
+    /**
+     * Places the cities like {@link #initCities(int, NameGenerator)}, but with the
+     * probabilities and radii of the configuration of the grid.
+     * Candidates are drawn from a list of all plains without a city, which
+     * shrinks as cities are placed, and the nearby mountains and cities are
+     * looked up in the spatial indices instead of scanning the tiles around each
+     * candidate.
+     *
+     * @param amount        the amount of cities to place
+     * @param nameGenerator the name generator to use
+     * @throws IllegalStateException if there are fewer plains than cities to
+     *                               place
+     */
+    private void placeCities(int amount, NameGenerator nameGenerator) {
+        int startingCitiesAdded = 0;
+        final List<Tile> candidates = new ArrayList<>();
+        for (final TilePosition position : tilePositions) {
+            final Tile tile = tiles.get(position);
+            if (tile.getType() == Tile.Type.PLAIN && !cities.containsKey(position)) {
+                candidates.add(tile);
+            }
+        }
+        final int plains = candidates.size() + cities.size();
+
+        while (cities.size() < amount) {
+            if (candidates.isEmpty()) {
+                throw new IllegalStateException(
+                        String.format("Cannot place %d cities on a map with %d plains", amount, plains));
+            }
+            final int candidateIndex = random.nextInt(candidates.size());
+            Tile tile = candidates.get(candidateIndex);
+
+            double probability = config.getCityBaseProbability();
+
+            if (tile.isAtCoast()) {
+                probability = config.getCityAtCoastProbability();
+            }
+
+            // the radius includes the center, so it covers the distances up to radius - 1
+            if (mountainIndex.anyWithin(tile.getPosition(), config.getCityNearMountainRadius() - 1)) {
+                probability = config.getCityNearMountainProbability();
+            }
+
+            if (cityIndex.anyWithin(tile.getPosition(), config.getCityNearCityRadius() - 1)) {
+                probability = config.getCityNearCityProbability();
+            }
+
+            if (random.nextDouble() < probability) {
+                boolean isStartingCity = false;
+                if (startingCitiesAdded < config.getNumberOfStartingCities()
+                        && (amount - cities.size() <= config.getNumberOfStartingCities() - startingCitiesAdded
+                                || random.nextBoolean())) {
+                    isStartingCity = true;
+                    startingCitiesAdded++;
+                }
+
+                final City city = new CityImpl(tile.getPosition(), nameGenerator.generateName(10), isStartingCity,
+                        this);
+                this.cities.put(tile.getPosition(), city);
+                cityIndex.put(tile.getPosition(), city);
+                // swap with the last candidate to remove it in constant time
+                candidates.set(candidateIndex, candidates.getLast());
+                candidates.removeLast();
+            }
+        }
+    }
+
     /**
      * Initializes the edges in this grid.
      */
@@ -279,7 +433,34 @@ public class HexGridImpl implements HexGrid {
      * @param type     type of the new tile
      */
     private void addTile(final TilePosition position, final Tile.Type type) {
-        tiles.put(position, new TileImpl(position, type, tileHeight, tileWidth, this));
+        final Tile tile = new TileImpl(position, type, tileHeight, tileWidth, this);
+        if (tiles.put(position, tile) == null) {
+            tilePositions.add(position);
+        }
+        if (type == Tile.Type.MOUNTAIN) {
+            mountainIndex.put(position, tile);
+        } else {
+            mountainIndex.remove(position);
+        }
+    }
+
+    /**
+     * Returns the spatial index of all mountain tiles.
+     * The index must not be modified.
+     *
+     * @return the spatial index of all mountain tiles
+     */
+    public HexSpatialIndex<Tile> getMountainIndex() {
+        return mountainIndex;
+    }
+
+    /**
+     * Returns the configuration of the game this grid belongs to.
+     *
+     * @return the configuration of the game
+     */
+    public GameConfig getConfig() {
+        return config;
     }
 
     // Edges / Roads
@@ -306,6 +487,21 @@ public class HexGridImpl implements HexGrid {
         return Collections.unmodifiableMap(cities);
     }
 
+    /**
+     * Returns the spatial index of all cities.
+     * It answers radius and nearest city queries without scanning all cities.
+     * The index must not be modified.
+     *
+     * @return the spatial index of all cities
+     */
+    public synchronized HexSpatialIndex<City> getCityIndex() {
+        if (cityIndex.size() != cities.size()) {
+            // initCities does not maintain the index
+            cities.forEach(cityIndex::put);
+        }
+        return cityIndex;
+    }
+
     @Override
     public City getCityAt(TilePosition position) {
         return cities.get(position);
@@ -332,19 +528,37 @@ public class HexGridImpl implements HexGrid {
         return org.tudalgo.algoutils.student.Student.crash("P1.4 - Remove if implemented");
     }
 
+    /**
+     * An entry of the priority queue used by {@link #findPath}.
+     *
+     * @param position the position
+     * @param distance the distance of the position when it was added
+     * @param sequence the number of entries added before this one
+     */
+    private record QueueEntry(TilePosition position, int distance, int sequence) {
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Neighbours are visited in the order of {@link EdgeDirection} and positions
+     * with the same distance are taken from the queue in the order they were
+     * added, so the result is deterministic.
+     */
     @Override
     public List<Edge> findPath(TilePosition start, TilePosition target, Set<Edge> availableEdges,
             BiFunction<TilePosition, TilePosition, Integer> edgeCostFunction) {
-        PriorityQueue<Pair<TilePosition, Integer>> positionQueue = new PriorityQueue<>(
-                (pair1, pair2) -> Integer.compare(pair1.getValue(), pair2.getValue()));
+        PriorityQueue<QueueEntry> positionQueue = new PriorityQueue<>(
+                Comparator.comparingInt(QueueEntry::distance).thenComparingInt(QueueEntry::sequence));
         Map<TilePosition, TilePosition> previous = new HashMap<>();
         Map<TilePosition, Integer> distance = new HashMap<>();
-        positionQueue.add(new Pair<>(start, 0));
+        int sequence = 0;
+        positionQueue.add(new QueueEntry(start, 0, sequence++));
         previous.put(start, start);
         distance.put(start, 0);
 
         while (!positionQueue.isEmpty()) {
-            TilePosition current = positionQueue.poll().getKey();
+            TilePosition current = positionQueue.poll().position();
             if (current.equals(target)) {
                 break;
             }
@@ -355,7 +569,7 @@ public class HexGridImpl implements HexGrid {
                 if (!distance.containsKey(next) || newDistance < distance.get(next)) {
                     distance.put(next, newDistance);
                     previous.put(next, current);
-                    positionQueue.add(new Pair<>(next, newDistance));
+                    positionQueue.add(new QueueEntry(next, newDistance, sequence++));
                 }
             }
         }
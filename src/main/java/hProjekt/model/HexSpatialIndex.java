@@ -0,0 +1,321 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A spatial index over positions of the hexagonal grid.
+ * The index groups its items into square buckets of
+ * {@code bucketSize * bucketSize} axial coordinates. A radius query only looks
+ * at the buckets overlapping the bounding box of the radius, so its cost depends
+ * on the number of buckets and the items in them instead of the number of tiles
+ * in the radius.
+ * <p>
+ * Distances are hex distances, i.e. the number of steps between two positions.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @param <T> the type of the indexed items
+ */
+public class HexSpatialIndex<T> {
+
+    private final int bucketSize;
+    private final Map<TilePosition, T> items = new HashMap<>();
+    private final List<Bucket> buckets = new ArrayList<>();
+    private int[] slots = new int[16];
+    private int minBucketQ = Integer.MAX_VALUE;
+    private int maxBucketQ = Integer.MIN_VALUE;
+    private int minBucketR = Integer.MAX_VALUE;
+    private int maxBucketR = Integer.MIN_VALUE;
+
+    /**
+     * The positions of the items in a single bucket.
+     */
+    private static final class Bucket {
+        private final int q;
+        private final int r;
+        private final List<TilePosition> positions = new ArrayList<>();
+
+        private Bucket(final int q, final int r) {
+            this.q = q;
+            this.r = r;
+        }
+    }
+
+    /**
+     * Creates a new empty index.
+     *
+     * @param bucketSize the number of q- and r-coordinates covered by a bucket
+     * @throws IllegalArgumentException if bucketSize is not positive
+     */
+    public HexSpatialIndex(final int bucketSize) {
+        if (bucketSize <= 0) {
+            throw new IllegalArgumentException("The bucket size must be positive: " + bucketSize);
+        }
+        this.bucketSize = bucketSize;
+    }
+
+    /**
+     * Returns the hex distance between the given coordinates.
+     *
+     * @param q1 the q-coordinate of the first position
+     * @param r1 the r-coordinate of the first position
+     * @param q2 the q-coordinate of the second position
+     * @param r2 the r-coordinate of the second position
+     * @return the number of steps between the two positions
+     */
+    public static int distance(final int q1, final int r1, final int q2, final int r2) {
+        final int dq = q1 - q2;
+        final int dr = r1 - r2;
+        return (Math.abs(dq) + Math.abs(dr) + Math.abs(dq + dr)) / 2;
+    }
+
+    /**
+     * Adds the given item at the given position.
+     * An item already stored at this position is replaced.
+     *
+     * @param position the position of the item
+     * @param item     the item
+     */
+    public void put(final TilePosition position, final T item) {
+        remove(position);
+        items.put(position, item);
+        final Bucket bucket = getOrCreateBucket(bucketOf(position.q()), bucketOf(position.r()));
+        bucket.positions.add(position);
+    }
+
+    /**
+     * Removes the item at the given position.
+     *
+     * @param position the position of the item
+     * @return the removed item or {@code null} if there was none
+     */
+    public T remove(final TilePosition position) {
+        final T item = items.remove(position);
+        if (item != null) {
+            final Bucket bucket = getBucket(bucketOf(position.q()), bucketOf(position.r()));
+            bucket.positions.remove(position);
+        }
+        return item;
+    }
+
+    /**
+     * Returns the item at the given position.
+     *
+     * @param position the position
+     * @return the item at the given position or {@code null} if there is none
+     */
+    public T get(final TilePosition position) {
+        return items.get(position);
+    }
+
+    /**
+     * Returns the number of items in this index.
+     *
+     * @return the number of items
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Returns whether there is an item with at most the given distance to the
+     * given center.
+     *
+     * @param q        the q-coordinate of the center
+     * @param r        the r-coordinate of the center
+     * @param distance the maximum distance
+     * @return whether there is an item within the distance
+     */
+    public boolean anyWithin(final int q, final int r, final int distance) {
+        if (distance < 0 || items.isEmpty()) {
+            return false;
+        }
+        for (int bucketQ = bucketOf(q - distance); bucketQ <= bucketOf(q + distance); bucketQ++) {
+            for (int bucketR = bucketOf(r - distance); bucketR <= bucketOf(r + distance); bucketR++) {
+                final Bucket bucket = getBucket(bucketQ, bucketR);
+                if (bucket == null) {
+                    continue;
+                }
+                for (final TilePosition position : bucket.positions) {
+                    if (distance(q, r, position.q(), position.r()) <= distance) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether there is an item with at most the given distance to the
+     * given center.
+     *
+     * @param center   the center
+     * @param distance the maximum distance
+     * @return whether there is an item within the distance
+     */
+    public boolean anyWithin(final TilePosition center, final int distance) {
+        return anyWithin(center.q(), center.r(), distance);
+    }
+
+    /**
+     * Returns all items with at most the given distance to the given center,
+     * ordered by their distance and then by their position.
+     *
+     * @param center   the center
+     * @param distance the maximum distance
+     * @return the items within the distance
+     */
+    public List<T> getWithin(final TilePosition center, final int distance) {
+        final List<TilePosition> found = new ArrayList<>();
+        for (int bucketQ = bucketOf(center.q() - distance); bucketQ <= bucketOf(center.q() + distance); bucketQ++) {
+            for (int bucketR = bucketOf(center.r() - distance); bucketR <= bucketOf(center.r() + distance);
+                    bucketR++) {
+                final Bucket bucket = getBucket(bucketQ, bucketR);
+                if (bucket == null) {
+                    continue;
+                }
+                for (final TilePosition position : bucket.positions) {
+                    if (distance(center.q(), center.r(), position.q(), position.r()) <= distance) {
+                        found.add(position);
+                    }
+                }
+            }
+        }
+        found.sort(Comparator
+                .comparingInt((TilePosition position) -> distance(center.q(), center.r(), position.q(), position.r()))
+                .thenComparing(Comparator.naturalOrder()));
+        return found.stream().map(items::get).toList();
+    }
+
+    /**
+     * Returns the item closest to the given center.
+     * If several items have the same distance, the one with the smallest position
+     * is returned.
+     *
+     * @param center the center
+     * @return the closest item or {@code null} if the index is empty
+     */
+    public T getNearest(final TilePosition center) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        final int centerQ = bucketOf(center.q());
+        final int centerR = bucketOf(center.r());
+        final int maxRing = Math.max(Math.max(centerQ - minBucketQ, maxBucketQ - centerQ),
+                Math.max(centerR - minBucketR, maxBucketR - centerR));
+        TilePosition best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int bucketQ = centerQ - ring; bucketQ <= centerQ + ring; bucketQ++) {
+                final boolean edgeColumn = bucketQ == centerQ - ring || bucketQ == centerQ + ring;
+                for (int bucketR = centerR - ring; bucketR <= centerR + ring; bucketR += edgeColumn ? 1
+                        : Math.max(1, 2 * ring)) {
+                    final Bucket bucket = getBucket(bucketQ, bucketR);
+                    if (bucket == null) {
+                        continue;
+                    }
+                    for (final TilePosition position : bucket.positions) {
+                        final int distance = distance(center.q(), center.r(), position.q(), position.r());
+                        if (distance < bestDistance || distance == bestDistance && position.compareTo(best) < 0) {
+                            best = position;
+                            bestDistance = distance;
+                        }
+                    }
+                }
+            }
+            // every position in the next ring is more than ring * bucketSize steps away
+            if (bestDistance <= ring * bucketSize) {
+                break;
+            }
+        }
+        return items.get(best);
+    }
+
+    /**
+     * Returns the bucket coordinate of the given coordinate.
+     *
+     * @param coordinate the q- or r-coordinate
+     * @return the bucket coordinate
+     */
+    private int bucketOf(final int coordinate) {
+        return Math.floorDiv(coordinate, bucketSize);
+    }
+
+    /**
+     * Returns the slot of the given bucket coordinates in the hash table.
+     *
+     * @param bucketQ the q-coordinate of the bucket
+     * @param bucketR the r-coordinate of the bucket
+     * @return the first slot to probe
+     */
+    private int slotOf(final int bucketQ, final int bucketR) {
+        return (bucketQ * 0x9E3779B1 + bucketR * 0x85EBCA6B >>> 8) & (slots.length - 1);
+    }
+
+    /**
+     * Returns the bucket with the given coordinates.
+     *
+     * @param bucketQ the q-coordinate of the bucket
+     * @param bucketR the r-coordinate of the bucket
+     * @return the bucket or {@code null} if it was never created
+     */
+    private Bucket getBucket(final int bucketQ, final int bucketR) {
+        for (int slot = slotOf(bucketQ, bucketR);; slot = (slot + 1) & (slots.length - 1)) {
+            if (slots[slot] == 0) {
+                return null;
+            }
+            final Bucket bucket = buckets.get(slots[slot] - 1);
+            if (bucket.q == bucketQ && bucket.r == bucketR) {
+                return bucket;
+            }
+        }
+    }
+
+    /**
+     * Returns the bucket with the given coordinates and creates it if necessary.
+     *
+     * @param bucketQ the q-coordinate of the bucket
+     * @param bucketR the r-coordinate of the bucket
+     * @return the bucket
+     */
+    private Bucket getOrCreateBucket(final int bucketQ, final int bucketR) {
+        final Bucket existing = getBucket(bucketQ, bucketR);
+        if (existing != null) {
+            return existing;
+        }
+        final Bucket bucket = new Bucket(bucketQ, bucketR);
+        buckets.add(bucket);
+        minBucketQ = Math.min(minBucketQ, bucketQ);
+        maxBucketQ = Math.max(maxBucketQ, bucketQ);
+        minBucketR = Math.min(minBucketR, bucketR);
+        maxBucketR = Math.max(maxBucketR, bucketR);
+        if (2 * buckets.size() > slots.length) {
+            slots = new int[slots.length * 2];
+            for (int i = 0; i < buckets.size(); i++) {
+                insertSlot(buckets.get(i), i);
+            }
+        } else {
+            insertSlot(bucket, buckets.size() - 1);
+        }
+        return bucket;
+    }
+
+    /**
+     * Stores the given bucket in the hash table.
+     *
+     * @param bucket the bucket
+     * @param index  the index of the bucket in the bucket list
+     */
+    private void insertSlot(final Bucket bucket, final int index) {
+        int slot = slotOf(bucket.q, bucket.r);
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        slots[slot] = index + 1;
+    }
+}
@@ -0,0 +1,213 @@
+package hProjekt.model;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of the driving paths found in a {@link DenseHexGridImpl}.
+ * Paths are keyed by their start and target tile and the ids of the available
+ * edges. When the cache is full, the least recently used path is evicted.
+ * <p>
+ * All paths are invalidated whenever a rail is built or removed, which is
+ * detected by the {@link DenseHexGridImpl#getRailModificationCount() rail
+ * modification count} of the grid.
+ * <p>
+ * The numbers of hits, misses, evictions and invalidations are counted.
+ * Access is synchronized, as several players may query paths from different
+ * threads. Paths are searched outside of the lock, so a slow search does not
+ * block the queries of other threads.
+ */
+public class PathCache {
+
+    private final DenseHexGridImpl grid;
+    private final int capacity;
+    private final Map<Key, List<Edge>> paths;
+    private int railModificationCount;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+    private long invalidations = 0;
+
+    /**
+     * The key of a cached path.
+     *
+     * @param start            the index of the start tile
+     * @param target           the index of the target tile
+     * @param availableEdgeIds the ids of the available edges
+     */
+    private record Key(int start, int target, BitSet availableEdgeIds) {
+    }
+
+    /**
+     * Creates a new empty cache for the given grid.
+     *
+     * @param grid     the grid whose paths are cached
+     * @param capacity the maximum number of cached paths
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public PathCache(final DenseHexGridImpl grid, final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        this.grid = grid;
+        this.capacity = capacity;
+        this.railModificationCount = grid.getRailModificationCount();
+        this.paths = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, List<Edge>> eldest) {
+                if (size() > PathCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached path between the given tiles using the available edges
+     * and computes it if it is not cached.
+     * The path is searched without holding the lock of the cache. If another
+     * thread cached the same path in the meantime, that path is returned. Paths
+     * searched while a rail was built or removed are returned, but not cached.
+     *
+     * @param start          the index of the start tile
+     * @param target         the index of the target tile
+     * @param availableEdges the edges the path may use
+     * @param search         computes the path if it is not cached
+     * @return the path as an unmodifiable list
+     */
+    public List<Edge> getPath(final int start, final int target, final Set<Edge> availableEdges,
+            final Supplier<List<Edge>> search) {
+        final Key key = new Key(start, target, fingerprint(availableEdges));
+        final int modifications;
+        synchronized (this) {
+            modifications = grid.getRailModificationCount();
+            if (railModificationCount != modifications) {
+                invalidateAll();
+                railModificationCount = modifications;
+            }
+            final List<Edge> cached = paths.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+        final List<Edge> path = List.copyOf(search.get());
+        synchronized (this) {
+            if (railModificationCount != modifications || grid.getRailModificationCount() != modifications) {
+                return path;
+            }
+            final List<Edge> cached = paths.putIfAbsent(key, path);
+            return cached == null ? path : cached;
+        }
+    }
+
+    /**
+     * Invalidates all cached paths.
+     */
+    public synchronized void invalidateAll() {
+        if (!paths.isEmpty()) {
+            invalidations++;
+            paths.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached paths.
+     *
+     * @return the number of cached paths
+     */
+    public synchronized int size() {
+        return paths.size();
+    }
+
+    /**
+     * Returns the maximum number of cached paths.
+     *
+     * @return the maximum number of cached paths
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of queries answered from the cache.
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of queries that had to search the path.
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the share of queries answered from the cache.
+     *
+     * @return the hit ratio between {@code 0} and {@code 1}, {@code 0} if there
+     *         were no queries
+     */
+    public synchronized double getHitRatio() {
+        final long queries = hits + misses;
+        return queries == 0 ? 0 : hits / (double) queries;
+    }
+
+    /**
+     * Returns the number of paths evicted because the cache was full.
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of times the cached paths were invalidated.
+     *
+     * @return the number of invalidations
+     */
+    public synchronized long getInvalidations() {
+        return invalidations;
+    }
+
+    /**
+     * Resets all counters.
+     */
+    public synchronized void resetCounters() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        invalidations = 0;
+    }
+
+    /**
+     * Returns the ids of the given edges that belong to the grid.
+     * Edges without an id in the grid can not be part of a path and are ignored.
+     *
+     * @param edges the edges
+     * @return the ids of the edges
+     */
+    private BitSet fingerprint(final Set<Edge> edges) {
+        final BitSet ids = new BitSet(grid.getEdgeCount());
+        for (final Edge edge : edges) {
+            final int id = edge.getId();
+            if (id >= 0 && id < grid.getEdgeCount() && grid.getEdgeById(id).equals(edge)) {
+                ids.set(id);
+            }
+        }
+        return ids;
+    }
+}
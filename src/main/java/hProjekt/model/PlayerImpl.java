@@ -230,5 +230,19 @@ public class PlayerImpl implements Player {
         public Player build(final HexGrid grid) {
             return new PlayerImpl(grid, this.color, this.id, nameOrDefault(), this.aiController);
         }
+
+        /**
+         * Builds the player with the properties set in this builder.
+         * The player starts with the credits of the given configuration.
+         *
+         * @param grid   the grid the player is on
+         * @param config the configuration of the game
+         * @return the player with the properties set in this builder
+         */
+        public Player build(final HexGrid grid, final GameConfig config) {
+            final PlayerImpl player = new PlayerImpl(grid, this.color, this.id, nameOrDefault(), this.aiController);
+            player.credits = config.getStartingCredits();
+            return player;
+        }
     }
 }
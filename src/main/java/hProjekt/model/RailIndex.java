@@ -0,0 +1,196 @@
+package hProjekt.model;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * Keeps track of the rails every player owns.
+ * For each player a {@link BitSet} over the {@link Edge#getId() edge ids}, the
+ * number of rails and their total base building cost are stored.
+ * The index is updated whenever the {@link RailOwnership} of the grid changes,
+ * so querying the rails of a player costs time proportional to the number of
+ * rails the player owns instead of the number of edges in the grid.
+ */
+public final class RailIndex {
+
+    private final Map<Player, PlayerRails> playerRails = new HashMap<>();
+    private final IntFunction<Edge> edgeLookup;
+    private final int edgeCount;
+    private boolean consistencyChecks = false;
+
+    /**
+     * The rails owned by a single player.
+     */
+    private static final class PlayerRails {
+        private final BitSet edgeIds = new BitSet();
+        private int count = 0;
+        private int totalBuildingCost = 0;
+    }
+
+    /**
+     * Creates a new rail index for the edges with the ids {@code 0} to
+     * {@code edgeCount - 1}.
+     * Rails that are already built on these edges are added to the index.
+     *
+     * @param edgeCount  the number of edges
+     * @param edgeLookup the function returning the edge with the given id
+     */
+    public RailIndex(final int edgeCount, final IntFunction<Edge> edgeLookup) {
+        this.edgeCount = edgeCount;
+        this.edgeLookup = edgeLookup;
+        for (int id = 0; id < edgeCount; id++) {
+            final Edge edge = edgeLookup.apply(id);
+            for (final Player player : edge.getRailOwners()) {
+                railAdded(edge, player);
+            }
+        }
+    }
+
+    /**
+     * Enables or disables consistency checks.
+     * If enabled, the index is compared to a full scan of all edges after every
+     * update. This is expensive and only meant for tests.
+     *
+     * @param enabled whether consistency checks should be performed
+     */
+    public void setConsistencyChecks(final boolean enabled) {
+        this.consistencyChecks = enabled;
+    }
+
+    /**
+     * Records that the given player built a rail on the given edge.
+     *
+     * @param edge   the edge the rail was built on
+     * @param player the player that built the rail
+     */
+    void railAdded(final Edge edge, final Player player) {
+        final PlayerRails rails = playerRails.computeIfAbsent(player, p -> new PlayerRails());
+        if (!rails.edgeIds.get(edge.getId())) {
+            rails.edgeIds.set(edge.getId());
+            rails.count++;
+            rails.totalBuildingCost += edge.getBaseBuildingCost();
+        }
+        if (consistencyChecks) {
+            verify();
+        }
+    }
+
+    /**
+     * Records that the given player removed their rail from the given edge.
+     *
+     * @param edge   the edge the rail was removed from
+     * @param player the player that removed the rail
+     */
+    void railRemoved(final Edge edge, final Player player) {
+        final PlayerRails rails = playerRails.get(player);
+        if (rails != null && rails.edgeIds.get(edge.getId())) {
+            rails.edgeIds.clear(edge.getId());
+            rails.count--;
+            rails.totalBuildingCost -= edge.getBaseBuildingCost();
+        }
+        if (consistencyChecks) {
+            verify();
+        }
+    }
+
+    /**
+     * Returns whether the given player owns a rail on the edge with the given id.
+     *
+     * @param player the player
+     * @param edgeId the id of the edge
+     * @return whether the given player owns a rail on the edge
+     */
+    public boolean hasRail(final Player player, final int edgeId) {
+        final PlayerRails rails = playerRails.get(player);
+        return rails != null && rails.edgeIds.get(edgeId);
+    }
+
+    /**
+     * Returns the number of rails the given player owns.
+     *
+     * @param player the player
+     * @return the number of rails the given player owns
+     */
+    public int getRailCount(final Player player) {
+        final PlayerRails rails = playerRails.get(player);
+        return rails == null ? 0 : rails.count;
+    }
+
+    /**
+     * Returns the sum of the base building costs of all rails the given player
+     * owns.
+     *
+     * @param player the player
+     * @return the total base building cost of the player's rails
+     */
+    public int getTotalBuildingCost(final Player player) {
+        final PlayerRails rails = playerRails.get(player);
+        return rails == null ? 0 : rails.totalBuildingCost;
+    }
+
+    /**
+     * Returns a copy of the ids of all edges the given player owns a rail on.
+     *
+     * @param player the player
+     * @return the ids of the player's rails
+     */
+    public BitSet getRailIds(final Player player) {
+        final PlayerRails rails = playerRails.get(player);
+        return rails == null ? new BitSet() : (BitSet) rails.edgeIds.clone();
+    }
+
+    /**
+     * Returns all rails of the given player.
+     *
+     * @param player the player
+     * @return all rails of the given player as an unmodifiable map
+     */
+    public Map<Set<TilePosition>, Edge> getRails(final Player player) {
+        final PlayerRails rails = playerRails.get(player);
+        if (rails == null || rails.count == 0) {
+            return Map.of();
+        }
+        final Map<Set<TilePosition>, Edge> result = new HashMap<>();
+        for (int id = rails.edgeIds.nextSetBit(0); id >= 0; id = rails.edgeIds.nextSetBit(id + 1)) {
+            final Edge edge = edgeLookup.apply(id);
+            result.put(edge.getAdjacentTilePositions(), edge);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Compares the index to a full scan of all edges.
+     *
+     * @throws IllegalStateException if the index is inconsistent
+     */
+    public void verify() {
+        final Map<Player, PlayerRails> expected = new HashMap<>();
+        for (int id = 0; id < edgeCount; id++) {
+            final Edge edge = edgeLookup.apply(id);
+            for (final Player player : edge.getRailOwners()) {
+                final PlayerRails rails = expected.computeIfAbsent(player, p -> new PlayerRails());
+                rails.edgeIds.set(id);
+                rails.count++;
+                rails.totalBuildingCost += edge.getBaseBuildingCost();
+            }
+        }
+        for (final Player player : playerRails.keySet()) {
+            expected.putIfAbsent(player, new PlayerRails());
+        }
+        expected.forEach((player, rails) -> {
+            final PlayerRails actual = playerRails.getOrDefault(player, new PlayerRails());
+            if (!actual.edgeIds.equals(rails.edgeIds) || actual.count != rails.count
+                    || actual.totalBuildingCost != rails.totalBuildingCost) {
+                throw new IllegalStateException(String.format(
+                        "Rail index of %s is inconsistent: expected %s (%d rails, cost %d) "
+                                + "but was %s (%d rails, cost %d)",
+                        player, rails.edgeIds, rails.count, rails.totalBuildingCost, actual.edgeIds, actual.count,
+                        actual.totalBuildingCost));
+            }
+        });
+    }
+}
@@ -0,0 +1,356 @@
+package hProjekt.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+/**
+ * Stores the rail owners of all edges of a {@link DenseHexGridImpl} as bit
+ * masks.
+ * The owners of edge {@code id} are stored in a single {@code long} in which
+ * bit {@code i} is set if the player in slot {@code i} owns a rail on the edge.
+ * Players receive the next free slot when they are first registered, so at most
+ * {@code 64} players can own rails in one grid.
+ * <p>
+ * No objects are kept per edge. The owners property of an edge is only created
+ * when it is requested, e.g. because the UI wants to watch it, and only those
+ * properties are updated when rails change. The owner lists are views on the
+ * masks: adding players to or removing them from a list, or setting the value
+ * of an owners property, changes the owners of its edge.
+ * <p>
+ * Every change of the owners is reported to the {@link Listener} of the store,
+ * so the indices of the grid follow the rails no matter how they were built.
+ */
+public class RailOwnership {
+
+    /**
+     * Receives the changes of the rail owners.
+     */
+    interface Listener {
+        /**
+         * Called after the given player was added to the owners of an edge.
+         *
+         * @param edgeId the id of the edge
+         * @param player the player
+         */
+        void railAdded(int edgeId, Player player);
+
+        /**
+         * Called after the given player was removed from the owners of an edge.
+         *
+         * @param edgeId the id of the edge
+         * @param player the player
+         */
+        void railRemoved(int edgeId, Player player);
+    }
+
+    /**
+     * The largest number of players for which the owner lists of all masks are
+     * cached.
+     */
+    private static final int MAX_CACHED_PLAYERS = 10;
+
+    private final long[] masks;
+    private final OwnersProperty[] properties;
+    private final Listener listener;
+    private final Map<Player, Integer> slots = new ConcurrentHashMap<>();
+    private volatile Player[] players = new Player[0];
+    private volatile List<Player>[] ownerLists;
+
+    /**
+     * The owners property of an edge. Setting its value adds and removes the
+     * players that differ from the current owners.
+     */
+    private final class OwnersProperty extends SimpleObjectProperty<List<Player>> {
+        private final int edgeId;
+
+        private OwnersProperty(final int edgeId) {
+            super(getOwners(edgeId));
+            this.edgeId = edgeId;
+        }
+
+        @Override
+        public void set(final List<Player> owners) {
+            setOwners(edgeId, owners == null ? List.of() : owners);
+        }
+
+        /**
+         * Replaces the value with the current owners of the edge.
+         */
+        private void update() {
+            super.set(getOwners(edgeId));
+        }
+    }
+
+    /**
+     * A modifiable view on the owners of an edge, ordered by their slot.
+     * Adding or removing a player adds or removes the rail of the player.
+     */
+    private final class OwnerList extends AbstractList<Player> {
+        private final int edgeId;
+
+        private OwnerList(final int edgeId) {
+            this.edgeId = edgeId;
+        }
+
+        @Override
+        public Player get(final int index) {
+            return getPlayers(masks[edgeId]).get(index);
+        }
+
+        @Override
+        public int size() {
+            return Long.bitCount(masks[edgeId]);
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return o instanceof Player player && isOwner(edgeId, player);
+        }
+
+        @Override
+        public boolean add(final Player player) {
+            return RailOwnership.this.add(edgeId, player);
+        }
+
+        @Override
+        public boolean remove(final Object o) {
+            return o instanceof Player player && RailOwnership.this.remove(edgeId, player);
+        }
+
+        @Override
+        public Player remove(final int index) {
+            final Player player = get(index);
+            RailOwnership.this.remove(edgeId, player);
+            return player;
+        }
+    }
+
+    /**
+     * Creates a new store for the given number of edges without any rails.
+     *
+     * @param edgeCount the number of edges
+     * @param listener  the listener to report the changes of the owners to
+     */
+    RailOwnership(final int edgeCount, final Listener listener) {
+        this.masks = new long[edgeCount];
+        this.properties = new OwnersProperty[edgeCount];
+        this.listener = listener;
+    }
+
+    /**
+     * Returns the bit of the given player.
+     *
+     * @param player the player
+     * @return the bit mask with only the bit of the given player set or {@code 0}
+     *         if the player was never registered and therefore owns no rail
+     */
+    public long bitOf(final Player player) {
+        final int slot = slotOf(player);
+        return slot < 0 ? 0 : 1L << slot;
+    }
+
+    /**
+     * Returns the slot of the given player.
+     *
+     * @param player the player
+     * @return the slot of the player or {@code -1} if the player was never
+     *         registered
+     */
+    public int slotOf(final Player player) {
+        final Integer slot = slots.get(player);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Returns the owner mask of the edge with the given id.
+     *
+     * @param edgeId the id of the edge
+     * @return the owner mask of the edge
+     */
+    public long getMask(final int edgeId) {
+        return masks[edgeId];
+    }
+
+    /**
+     * Returns whether the given player owns a rail on the edge with the given id.
+     *
+     * @param edgeId the id of the edge
+     * @param player the player
+     * @return whether the given player owns a rail on the edge
+     */
+    public boolean isOwner(final int edgeId, final Player player) {
+        final int slot = slotOf(player);
+        return slot >= 0 && (masks[edgeId] & 1L << slot) != 0;
+    }
+
+    /**
+     * Returns the players whose bits are set in the given mask, ordered by their
+     * slot.
+     *
+     * @param mask the owner mask
+     * @return the players of the mask as an unmodifiable list
+     */
+    public List<Player> getPlayers(final long mask) {
+        if (mask == 0) {
+            return List.of();
+        }
+        final List<Player>[] cache = ownerLists;
+        if (cache != null && mask < cache.length) {
+            final List<Player> cached = cache[(int) mask];
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final Player[] registered = players;
+        final List<Player> result = new ArrayList<>(Long.bitCount(mask));
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            result.add(registered[Long.numberOfTrailingZeros(remaining)]);
+        }
+        final List<Player> owners = Collections.unmodifiableList(result);
+        if (cache != null && mask < cache.length) {
+            cache[(int) mask] = owners;
+        }
+        return owners;
+    }
+
+    /**
+     * Returns the owners of the edge with the given id.
+     * The list is a view on the owner mask of the edge, modifying it adds or
+     * removes rails.
+     *
+     * @param edgeId the id of the edge
+     * @return the owners ordered by their slot
+     */
+    public List<Player> getOwners(final int edgeId) {
+        return new OwnerList(edgeId);
+    }
+
+    /**
+     * Returns the owners property of the edge with the given id and creates it if
+     * necessary.
+     * The value of the property is replaced whenever the owners of the edge change
+     * and is a view like {@link #getOwners(int)}. Setting a new list adds the
+     * players that are only
+     * contained in the new list and removes the players that are only contained in
+     * the old one.
+     *
+     * @param edgeId the id of the edge
+     * @return the owners property of the edge
+     */
+    public Property<List<Player>> getProperty(final int edgeId) {
+        if (properties[edgeId] == null) {
+            properties[edgeId] = new OwnersProperty(edgeId);
+        }
+        return properties[edgeId];
+    }
+
+    /**
+     * Adds the given player to the owners of the edge with the given id.
+     *
+     * @param edgeId the id of the edge
+     * @param player the player
+     * @return {@code true} if the player was added, {@code false} if the player
+     *         already owned a rail on the edge
+     */
+    boolean add(final int edgeId, final Player player) {
+        final long bit = 1L << register(player);
+        if ((masks[edgeId] & bit) != 0) {
+            return false;
+        }
+        masks[edgeId] |= bit;
+        update(edgeId);
+        listener.railAdded(edgeId, player);
+        return true;
+    }
+
+    /**
+     * Removes the given player from the owners of the edge with the given id.
+     *
+     * @param edgeId the id of the edge
+     * @param player the player
+     * @return {@code true} if the player was removed, {@code false} if the player
+     *         did not own a rail on the edge
+     */
+    boolean remove(final int edgeId, final Player player) {
+        final long bit = bitOf(player);
+        if ((masks[edgeId] & bit) == 0) {
+            return false;
+        }
+        masks[edgeId] &= ~bit;
+        update(edgeId);
+        listener.railRemoved(edgeId, player);
+        return true;
+    }
+
+    /**
+     * Replaces the owners of the edge with the given id with the given players.
+     *
+     * @param edgeId the id of the edge
+     * @param owners the new owners
+     */
+    private void setOwners(final int edgeId, final List<Player> owners) {
+        for (final Player owner : getPlayers(masks[edgeId])) {
+            if (!owners.contains(owner)) {
+                remove(edgeId, owner);
+            }
+        }
+        for (final Player owner : owners) {
+            add(edgeId, owner);
+        }
+    }
+
+    /**
+     * Updates the owners property of the edge with the given id, if it exists.
+     *
+     * @param edgeId the id of the edge
+     */
+    private void update(final int edgeId) {
+        if (properties[edgeId] != null) {
+            properties[edgeId].update();
+        }
+    }
+
+    /**
+     * Assigns the next free slot to the given player, if it has none yet, so it
+     * can be returned for its bit.
+     *
+     * @param player the player
+     * @return the slot of the player
+     * @throws IllegalStateException if all {@code 64} slots are taken
+     */
+    synchronized int register(final Player player) {
+        final int slot = slotOf(player);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (players.length == Long.SIZE) {
+            throw new IllegalStateException("At most 64 players can own rails in one grid");
+        }
+        final Player[] registered = Arrays.copyOf(players, players.length + 1);
+        registered[registered.length - 1] = player;
+        ownerLists = registered.length <= MAX_CACHED_PLAYERS ? newOwnerLists(1 << registered.length) : null;
+        players = registered;
+        slots.put(player, registered.length - 1);
+        return registered.length - 1;
+    }
+
+    /**
+     * Creates an empty cache for the owner lists of all masks below the given
+     * size.
+     *
+     * @param size the number of masks
+     * @return the empty cache
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Player>[] newOwnerLists(final int size) {
+        return (List<Player>[]) new List<?>[size];
+    }
+}
@@ -0,0 +1,120 @@
+package hProjekt.model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Breadth-first search over the {@link DenseHexGridImpl#getLineGraph() line
+ * graph} of a {@link DenseHexGridImpl} that finds the rails of other players a
+ * player can rent.
+ * Two edges are adjacent in the line graph if they share a tile. The search
+ * starts at all rails of other players adjacent to the player's own rails and
+ * only follows rails the player does not own.
+ * <p>
+ * Edge ids are queued in an {@code int} ring buffer and the distances are
+ * stored in an {@code int} array indexed by edge id. All arrays are reused
+ * between searches; a generation stamp marks which entries belong to the
+ * current search.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public class RentableEdgeSearch {
+
+    private final DenseHexGridImpl grid;
+    private final CsrGraph lineGraph;
+    private final int[] distance;
+    private final int[] stamp;
+    private final int[] queue;
+    private int head = 0;
+    private int size = 0;
+    private int generation = 0;
+
+    /**
+     * Creates a new search for the given grid.
+     *
+     * @param grid the grid to search in
+     */
+    public RentableEdgeSearch(final DenseHexGridImpl grid) {
+        this.grid = grid;
+        this.lineGraph = grid.getLineGraph();
+        this.distance = new int[grid.getEdgeCount()];
+        this.stamp = new int[grid.getEdgeCount()];
+        this.queue = new int[Math.max(1, grid.getEdgeCount())];
+    }
+
+    /**
+     * Returns all rails the given player can rent within the given distance of
+     * their rail network.
+     * Rails adjacent to the player's rails have distance {@code 1} and are always
+     * returned, even if the maximum distance is not positive.
+     *
+     * @param player      the player
+     * @param maxDistance the maximum number of edges between a rail and the
+     *                    player's rail network
+     * @return the rentable rails
+     */
+    public Set<Edge> search(final Player player, final int maxDistance) {
+        final Set<Edge> result = new HashSet<>();
+        nextGeneration();
+        head = 0;
+        size = 0;
+        final long bit = grid.getRailOwnership().bitOf(player);
+
+        final BitSet rails = grid.getRailIndex().getRailIds(player);
+        for (int rail = rails.nextSetBit(0); rail >= 0; rail = rails.nextSetBit(rail + 1)) {
+            visitNeighbours(rail, 1, bit, result);
+        }
+        while (size > 0) {
+            final int current = queue[head];
+            head = (head + 1) % queue.length;
+            size--;
+            if (distance[current] < maxDistance) {
+                visitNeighbours(current, distance[current] + 1, bit, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Enqueues all unvisited rails adjacent to the given edge that the player does
+     * not own.
+     *
+     * @param edgeId      the id of the edge
+     * @param newDistance the distance of the adjacent rails
+     * @param bit         the bit of the player
+     * @param result      the rentable rails found so far
+     */
+    private void visitNeighbours(final int edgeId, final int newDistance, final long bit, final Set<Edge> result) {
+        final int[] offsets = lineGraph.getOffsets();
+        final int[] targets = lineGraph.getTargets();
+        for (int i = offsets[edgeId]; i < offsets[edgeId + 1]; i++) {
+            final int next = targets[i];
+            if (stamp[next] == generation) {
+                continue;
+            }
+            final long owners = grid.getRailOwnership().getMask(next);
+            if (owners == 0 || (owners & bit) != 0) {
+                continue;
+            }
+            stamp[next] = generation;
+            distance[next] = newDistance;
+            queue[(head + size) % queue.length] = next;
+            size++;
+            result.add(grid.getEdgeById(next));
+        }
+    }
+
+    /**
+     * Starts a new generation, so that all entries of the previous search are
+     * considered unvisited.
+     */
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+    }
+}
@@ -13,6 +13,8 @@ import javafx.beans.value.ObservableDoubleValue;
 
 /**
  * Holds information on a tile.
+ * If the tile is placed in an indexed {@link DenseHexGridImpl}, its edges and
+ * neighbours are returned from the precomputed tables of the grid.
  *
  * @param position       this tile's position
  * @param type           the type of this tile
@@ -65,6 +67,9 @@ public record TileImpl(TilePosition position, Type type, ObservableDoubleValue h
 
     @Override
     public Set<Edge> getEdges() {
+        if (getHexGrid() instanceof DenseHexGridImpl dense && dense.isIndexed()) {
+            return dense.getEdges(dense.tileIndex(position));
+        }
         return Collections.unmodifiableSet(
                 EdgeDirection.stream().map(this::getEdge).filter(edge -> edge != null).collect(Collectors.toSet()));
     }
@@ -76,6 +81,9 @@ public record TileImpl(TilePosition position, Type type, ObservableDoubleValue h
 
     @Override
     public Set<Tile> getNeighbours() {
+        if (getHexGrid() instanceof DenseHexGridImpl dense && dense.isIndexed()) {
+            return dense.getNeighbours(dense.tileIndex(position));
+        }
         return getHexGrid().getTiles().entrySet().stream()
                 .filter(entrySet -> TilePosition.neighbours(getPosition()).contains(entrySet.getKey()))
                 .map(Map.Entry::getValue).collect(Collectors.toSet());
@@ -102,6 +110,6 @@ public record TileImpl(TilePosition position, Type type, ObservableDoubleValue h
 
     @Override
     public Set<Edge> getRails(Player player) {
-        return getEdges().stream().filter(edge -> edge.getRailOwners().contains(player)).collect(Collectors.toSet());
+        return getEdges().stream().filter(edge -> edge.isRailOwner(player)).collect(Collectors.toSet());
     }
 }
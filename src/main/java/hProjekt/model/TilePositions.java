@@ -0,0 +1,150 @@
+package hProjekt.model;
+
+import java.util.Arrays;
+
+import hProjekt.model.TilePosition.EdgeDirection;
+
+/**
+ * Iterates over rings and spirals of positions without allocating.
+ * Visits the same positions in the same order as
+ * {@link TilePosition#forEachRing} and {@link TilePosition#forEachSpiral}, but
+ * passes plain (q, r) coordinates to a {@link CoordinatePredicate} instead of
+ * creating a {@link TilePosition} and an {@code Integer[]} per step. The offsets
+ * of every ring are computed once per radius and shared by all callers.
+ */
+public final class TilePositions {
+
+    /**
+     * The offsets of the positions on the rings around (0, 0), indexed by radius.
+     * Each table stores the q- and r-offset of every position on the ring
+     * alternately, in the order the ring is walked.
+     */
+    private static volatile int[][] ringOffsets = { { 0, 0 } };
+
+    /**
+     * A predicate over the coordinates of a position.
+     */
+    @FunctionalInterface
+    public interface CoordinatePredicate {
+
+        /**
+         * Evaluates this predicate on the given coordinates.
+         *
+         * @param q the q-coordinate
+         * @param r the r-coordinate
+         * @return {@code true} to stop the iteration, {@code false} to continue
+         */
+        boolean test(int q, int r);
+    }
+
+    private TilePositions() {
+    }
+
+    /**
+     * Executes the given function on the coordinates of each position on a ring
+     * with the given radius around the given center.
+     * If the given function returns {@code true}, the iteration exits early. A
+     * ring with a negative radius is empty.
+     *
+     * @param q        the q-coordinate of the center
+     * @param r        the r-coordinate of the center
+     * @param radius   the radius of the ring
+     * @param function the function to execute
+     * @return {@code true} if the function exited early, {@code false} otherwise
+     */
+    public static boolean forEachRing(final int q, final int r, final int radius,
+            final CoordinatePredicate function) {
+        if (radius < 0) {
+            return false;
+        }
+        final int[] offsets = getRingOffsets(radius);
+        for (int i = 0; i < offsets.length; i += 2) {
+            if (function.test(q + offsets[i], r + offsets[i + 1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Executes the given function on the coordinates of each position on a
+     * spiral with the given radius around the given center, ring by ring from
+     * the center outwards.
+     * If the given function returns {@code true}, the iteration exits early.
+     *
+     * @param q        the q-coordinate of the center
+     * @param r        the r-coordinate of the center
+     * @param radius   the radius of the spiral including the center
+     * @param function the function to execute
+     * @return {@code true} if the function exited early, {@code false} otherwise
+     */
+    public static boolean forEachSpiral(final int q, final int r, final int radius,
+            final CoordinatePredicate function) {
+        for (int i = 0; i < radius; i++) {
+            if (forEachRing(q, r, i, function)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of positions on a ring with the given radius.
+     *
+     * @param radius the radius of the ring
+     * @return the number of positions on the ring
+     */
+    public static int ringSize(final int radius) {
+        return radius < 0 ? 0 : radius == 0 ? 1 : EdgeDirection.SIZE * radius;
+    }
+
+    /**
+     * Returns the offset table of the ring with the given radius.
+     * The tables are computed on first use and shared afterwards, so the
+     * returned array must not be modified.
+     *
+     * @param radius the radius of the ring, must not be negative
+     * @return the q- and r-offsets of the positions on the ring
+     */
+    private static int[] getRingOffsets(final int radius) {
+        int[][] tables = ringOffsets;
+        if (radius >= tables.length) {
+            synchronized (TilePositions.class) {
+                tables = ringOffsets;
+                if (radius >= tables.length) {
+                    final int[][] newTables = Arrays.copyOf(tables, Math.max(radius + 1, tables.length * 2));
+                    for (int i = tables.length; i < newTables.length; i++) {
+                        newTables[i] = computeRingOffsets(i);
+                    }
+                    ringOffsets = newTables;
+                    tables = newTables;
+                }
+            }
+        }
+        return tables[radius];
+    }
+
+    /**
+     * Computes the offset table of the ring with the given radius.
+     * The ring starts at the corner in direction {@link EdgeDirection#SOUTH_WEST}
+     * and is walked counterclockwise, one side per {@link EdgeDirection}.
+     *
+     * @param radius the radius of the ring, must be positive
+     * @return the q- and r-offsets of the positions on the ring
+     */
+    private static int[] computeRingOffsets(final int radius) {
+        final int[] offsets = new int[2 * ringSize(radius)];
+        int q = EdgeDirection.SOUTH_WEST.position.q() * radius;
+        int r = EdgeDirection.SOUTH_WEST.position.r() * radius;
+        int i = 0;
+        for (final EdgeDirection direction : EdgeDirection.VALUES) {
+            for (int tile = 0; tile < radius; tile++) {
+                offsets[i++] = q;
+                offsets[i++] = r;
+                q += direction.position.q();
+                r += direction.position.r();
+            }
+        }
+        return offsets;
+    }
+}
@@ -0,0 +1,130 @@
+package hProjekt.model;
+
+import java.util.List;
+
+/**
+ * Keeps track of which players own a rail ending at each tile of a
+ * {@link DenseHexGridImpl}.
+ * For every player and tile the number of the player's rails ending at the
+ * tile is counted, and every tile stores the owners of these rails as a bit
+ * mask of the slots of the {@link RailOwnership} of the grid. Both are updated incrementally when rails are
+ * built or removed.
+ */
+public final class TileRailOwners {
+
+    private final DenseHexGridImpl grid;
+    private final RailOwnership ownership;
+    private final long[] tileMasks;
+    private final int[][] railCounts = new int[Long.SIZE][];
+
+    /**
+     * Creates a new tracker for the given grid and adds all rails that are
+     * already built.
+     *
+     * @param grid the grid to track
+     */
+    public TileRailOwners(final DenseHexGridImpl grid) {
+        this.grid = grid;
+        this.ownership = grid.getRailOwnership();
+        this.tileMasks = new long[grid.getTileCapacity()];
+        for (int id = 0; id < grid.getEdgeCount(); id++) {
+            final Edge edge = grid.getEdgeById(id);
+            for (final Player player : edge.getRailOwners()) {
+                railAdded(edge, player);
+            }
+        }
+    }
+
+    /**
+     * Counts the rail the given player built on the given edge.
+     *
+     * @param edge   the edge the rail was built on
+     * @param player the player that built the rail
+     */
+    void railAdded(final Edge edge, final Player player) {
+        final int slot = ownership.slotOf(player);
+        final long bit = 1L << slot;
+        final int[] counts = getCounts(slot);
+        for (final TilePosition position : List.of(edge.getPosition1(), edge.getPosition2())) {
+            final int tile = grid.tileIndex(position);
+            if (counts[tile]++ == 0) {
+                tileMasks[tile] |= bit;
+            }
+        }
+    }
+
+    /**
+     * Stops counting the rail the given player removed from the given edge.
+     *
+     * @param edge   the edge the rail was removed from
+     * @param player the player that removed the rail
+     */
+    void railRemoved(final Edge edge, final Player player) {
+        final int slot = ownership.slotOf(player);
+        final long bit = 1L << slot;
+        final int[] counts = getCounts(slot);
+        for (final TilePosition position : List.of(edge.getPosition1(), edge.getPosition2())) {
+            final int tile = grid.tileIndex(position);
+            if (counts[tile] > 0 && --counts[tile] == 0) {
+                tileMasks[tile] &= ~bit;
+            }
+        }
+    }
+
+    /**
+     * Returns the owners of all rails ending at the given tile.
+     *
+     * @param tileIndex the index of the tile
+     * @return the owner mask of the tile
+     */
+    public long getMask(final int tileIndex) {
+        return tileMasks[tileIndex];
+    }
+
+    /**
+     * Returns the owners of all rails ending at the given tile except the rails on
+     * the given edge.
+     *
+     * @param tileIndex the index of the tile
+     * @param edge      the edge to ignore, has to end at the tile
+     * @return the owner mask of the tile without the edge
+     */
+    public long getMaskExcluding(final int tileIndex, final Edge edge) {
+        long mask = tileMasks[tileIndex];
+        // owners of the edge that have no other rail at the tile
+        for (long owners = ownership.getMask(edge.getId()) & mask; owners != 0; owners &= owners - 1) {
+            final int slot = Long.numberOfTrailingZeros(owners);
+            if (railCounts[slot][tileIndex] == 1) {
+                mask &= ~(1L << slot);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the number of rails of the given player ending at the given tile.
+     *
+     * @param tileIndex the index of the tile
+     * @param player    the player
+     * @return the number of rails of the player ending at the tile
+     */
+    public int getRailCount(final int tileIndex, final Player player) {
+        final int slot = ownership.slotOf(player);
+        final int[] counts = slot < 0 ? null : railCounts[slot];
+        return counts == null ? 0 : counts[tileIndex];
+    }
+
+    /**
+     * Returns the rail counters of the player in the given slot and creates them
+     * if necessary.
+     *
+     * @param slot the slot of the player
+     * @return the number of rails of the player per tile
+     */
+    private int[] getCounts(final int slot) {
+        if (railCounts[slot] == null) {
+            railCounts[slot] = new int[tileMasks.length];
+        }
+        return railCounts[slot];
+    }
+}
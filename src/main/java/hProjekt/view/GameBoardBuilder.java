@@ -2,10 +2,15 @@ package hProjekt.view;
 
 import java.util.function.Consumer;
 
+import hProjekt.model.GameConfig;
+import hProjekt.view.menus.overlays.ChosenCitiesOverlayView;
+import hProjekt.view.menus.overlays.CityOverlayView;
+import hProjekt.view.menus.overlays.RollDiceOverlayView;
 import javafx.event.ActionEvent;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
+import javafx.scene.control.ToggleButton;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
@@ -70,7 +75,14 @@ public class GameBoardBuilder implements Builder<Region> {
         endScreenButton.getStyleClass().add("button");
 
         // Wrap the button in a VBox for padding and alignment
-        VBox topRightContainer = new VBox(endScreenButton);
+        VBox topRightContainer = new VBox(10, endScreenButton);
+
+        // Toggles the turbo mode of the game, if the board shows one
+        if (cityOverlay instanceof CityOverlayView cityOverlayView) {
+            final GameConfig config = GameConfig.of(cityOverlayView.getGameState().getGrid());
+            topRightContainer.getChildren().add(createTurboButton(config));
+        }
+
         topRightContainer.setPadding(new Insets(10));
         topRightContainer.setAlignment(Pos.TOP_RIGHT); // Ensure alignment within the VBox
         topRightContainer.setMaxWidth(Region.USE_PREF_SIZE); // Prevent stretching
@@ -145,6 +157,28 @@ public class GameBoardBuilder implements Builder<Region> {
         node.setPickOnBounds(false); // Ensures only visible parts react to mouse events
     }
 
+    /**
+     * Creates the toggle button for the turbo mode of the game with the given
+     * configuration and lets the dice and city overlays follow it.
+     *
+     * @param config the configuration of the game on the board
+     * @return the toggle button
+     */
+    private ToggleButton createTurboButton(final GameConfig config) {
+        ToggleButton turboButton = new ToggleButton("Turbo");
+        turboButton.getStylesheets().add(getClass().getResource("/css/setupgamemenu.css").toExternalForm());
+        turboButton.getStyleClass().add("button");
+        turboButton.setSelected(config.isTurboMode());
+        turboButton.selectedProperty().addListener((observable, oldValue, newValue) -> config.setTurboMode(newValue));
+        if (rollDiceOverlay instanceof RollDiceOverlayView rollDiceOverlayView) {
+            rollDiceOverlayView.setTurboMode(config::isTurboMode);
+        }
+        if (spinCityOverlay instanceof ChosenCitiesOverlayView chosenCitiesOverlayView) {
+            chosenCitiesOverlayView.setTurboMode(config::isTurboMode);
+        }
+        return turboButton;
+    }
+
     /**
      * Adds the confirmation overlay to the bottom center of the screen.
      */
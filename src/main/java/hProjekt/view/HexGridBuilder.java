@@ -245,6 +245,15 @@ public class HexGridBuilder implements Builder<Region> {
         return calculatePositionTranslationOffset(position).add(grid.getTileWidth() / 2, grid.getTileHeight() / 2);
     }
 
+    /**
+     * Returns the hex grid.
+     *
+     * @return The hex grid.
+     */
+    public HexGrid getGrid() {
+        return grid;
+    }
+
     /**
      * Returns the pane with the hex grid.
      *
@@ -2,6 +2,7 @@ package hProjekt.view.menus.overlays;
 
 import java.util.List;
 import java.util.Random;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 import javafx.animation.KeyFrame;
@@ -29,6 +30,7 @@ public class ChosenCitiesOverlayView extends StackPane {
     private final Label fromCityLabel;
     private final Label toCityLabel;
     private final Button spinButton;
+    private BooleanSupplier turboMode = () -> false;
 
     /**
      * Constructor for the ChosenCitiesOverlayView.
@@ -111,6 +113,16 @@ public class ChosenCitiesOverlayView extends StackPane {
         this.setPadding(new Insets(10));
     }
 
+    /**
+     * Sets whether the chosen cities are shown without an animation.
+     * Defaults to always showing the animation.
+     *
+     * @param turboMode returns whether the game runs in turbo mode
+     */
+    public void setTurboMode(final BooleanSupplier turboMode) {
+        this.turboMode = turboMode;
+    }
+
     /**
      * Spins and randomly selects From and To cities.
      *
@@ -123,6 +135,11 @@ public class ChosenCitiesOverlayView extends StackPane {
             System.out.println("Not enough cities to spin.");
             return;
         }
+        if (turboMode.getAsBoolean()) {
+            fromCityLabel.setText(fromCity);
+            toCityLabel.setText(toCity);
+            return;
+        }
 
         Random random = new Random();
         Timeline timeline = new Timeline();
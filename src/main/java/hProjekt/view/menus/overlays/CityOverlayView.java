@@ -83,6 +83,15 @@ public class CityOverlayView extends VBox {
         this.setPrefHeight(USE_COMPUTED_SIZE);
     }
 
+    /**
+     * Returns the game state the cities are retrieved from.
+     *
+     * @return the game state
+     */
+    public GameState getGameState() {
+        return gameState;
+    }
+
     /**
      * Updates the city list based on the selected toggle button.
      *
@@ -1,6 +1,7 @@
 package hProjekt.view.menus.overlays;
 
 import java.util.Random;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 import javafx.animation.KeyFrame;
@@ -29,6 +30,7 @@ public class RollDiceOverlayView extends StackPane {
     private final ImageView diceImageView;
     private final Button rollDiceButton;
     private final Random random = new Random();
+    private BooleanSupplier turboMode = () -> false;
 
     public RollDiceOverlayView(final Consumer<ActionEvent> rollDiceAction) {
         // Configure the main container
@@ -71,6 +73,16 @@ public class RollDiceOverlayView extends StackPane {
         this.setPadding(new Insets(10)); // Same padding as PlayerOverlayView
     }
 
+    /**
+     * Sets whether the dice rolls are shown without an animation.
+     * Defaults to always showing the animation.
+     *
+     * @param turboMode returns whether the game runs in turbo mode
+     */
+    public void setTurboMode(final BooleanSupplier turboMode) {
+        this.turboMode = turboMode;
+    }
+
     /**
      * Rolls the dice with an animation and updates the dice image based on the
      * result.
@@ -78,6 +90,12 @@ public class RollDiceOverlayView extends StackPane {
      * @param rolledNumber the number rolled on the dice
      */
     public void rollDice(int rolledNumber) {
+        if (turboMode.getAsBoolean()) {
+            String finalDiceImagePath = "/images/dice/dice" + rolledNumber + ".png";
+            diceImageView.setImage(new Image(getClass().getResourceAsStream(finalDiceImagePath)));
+            return;
+        }
+
         // Animation to simulate rolling dice
         Timeline timeline = new Timeline();
         for (int i = 0; i < 15; i++) {
@@ -0,0 +1,219 @@
+package hProjekt.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+import hProjekt.controller.actions.ChooseCitiesAction;
+import hProjekt.controller.actions.ChooseRailsAction;
+import hProjekt.controller.actions.ConfirmBuildAction;
+import hProjekt.controller.actions.ConfirmDrive;
+import hProjekt.controller.actions.PlayerAction;
+import hProjekt.controller.actions.RollDiceAction;
+import hProjekt.model.GameConfig;
+import hProjekt.model.GameState;
+import hProjekt.model.HexGridImpl;
+import hProjekt.model.PlayerImpl;
+import hProjekt.model.PlayerState;
+
+/**
+ * Checks that {@link AiExecutionService} discards the actions of stale
+ * decisions and takes a fallback action for decisions that fail or exceed their
+ * time budget.
+ */
+public class AiExecutionServiceTest {
+
+    private static final long WAIT_SECONDS = 5;
+
+    private AiExecutionService service;
+
+    @AfterEach
+    public void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailedDecisionTakesFallbackAction() throws InterruptedException {
+        final TestAiController ai = createAiController(Duration.ofSeconds(WAIT_SECONDS));
+        final RuntimeException failure = new IllegalStateException("failed decision");
+        ai.behaviour = controller -> {
+            throw failure;
+        };
+
+        service.submit(ai, stateWith(PlayerObjective.PLACE_RAIL));
+
+        assertInstanceOf(ConfirmBuildAction.class, nextAction(ai));
+        assertEquals(1, service.getFailedDecisionCount());
+        assertEquals(1, service.getFallbackActionCount());
+        assertSame(failure, service.getLastFailure());
+    }
+
+    @Test
+    public void testFailedDecisionAfterActionTakesNoFallbackAction() throws InterruptedException {
+        final TestAiController ai = createAiController(Duration.ofSeconds(WAIT_SECONDS));
+        ai.behaviour = controller -> {
+            controller.triggerAction(new RollDiceAction());
+            throw new IllegalStateException("failed after acting");
+        };
+
+        service.submit(ai, stateWith(PlayerObjective.ROLL_DICE));
+
+        assertInstanceOf(RollDiceAction.class, nextAction(ai));
+        awaitCondition(() -> service.getFailedDecisionCount() == 1);
+        assertEquals(0, service.getFallbackActionCount());
+        assertTrue(ai.actions.isEmpty());
+    }
+
+    @Test
+    public void testTimedOutDecisionTakesFallbackAction() throws InterruptedException {
+        final TestAiController ai = createAiController(Duration.ofMillis(50));
+        ai.behaviour = controller -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+            } catch (final InterruptedException e) {
+                // the action of an expired decision is discarded
+                controller.triggerAction(new ConfirmBuildAction());
+            }
+        };
+
+        service.submit(ai, stateWith(PlayerObjective.ROLL_DICE));
+
+        assertInstanceOf(RollDiceAction.class, nextAction(ai));
+        awaitCondition(() -> service.getDiscardedActionCount() == 1);
+        assertEquals(1, service.getTimedOutDecisionCount());
+        assertEquals(1, service.getFallbackActionCount());
+        assertEquals(0, service.getFailedDecisionCount());
+        assertTrue(ai.actions.isEmpty());
+    }
+
+    @Test
+    public void testStaleDecisionsAreDiscarded() throws InterruptedException {
+        final TestAiController ai = createAiController(Duration.ofSeconds(WAIT_SECONDS));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        ai.behaviour = controller -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // superseded while it waited
+            controller.triggerAction(new ConfirmBuildAction());
+        };
+        service.submit(ai, stateWith(PlayerObjective.PLACE_RAIL));
+        assertTrue(started.await(WAIT_SECONDS, TimeUnit.SECONDS));
+
+        ai.behaviour = controller -> controller.triggerAction(new ChooseCitiesAction());
+        // queued behind the first decision and superseded before it starts
+        service.submit(ai, stateWith(PlayerObjective.ROLL_DICE));
+        service.submit(ai, stateWith(PlayerObjective.CHOOSE_CITIES));
+        release.countDown();
+
+        assertInstanceOf(ChooseCitiesAction.class, nextAction(ai));
+        assertEquals(1, service.getDiscardedActionCount());
+        awaitCondition(() -> service.getStaleDecisionCount() == 1);
+        assertEquals(0, service.getFallbackActionCount());
+        assertTrue(ai.actions.isEmpty());
+    }
+
+    @Test
+    public void testFallbackActions() {
+        assertInstanceOf(ConfirmBuildAction.class,
+                AiExecutionService.getFallbackAction(stateWith(PlayerObjective.PLACE_RAIL)));
+        assertInstanceOf(RollDiceAction.class,
+                AiExecutionService.getFallbackAction(stateWith(PlayerObjective.ROLL_DICE)));
+        assertInstanceOf(ChooseCitiesAction.class,
+                AiExecutionService.getFallbackAction(stateWith(PlayerObjective.CHOOSE_CITIES)));
+        assertEquals(new ChooseRailsAction(Set.of()),
+                AiExecutionService.getFallbackAction(stateWith(PlayerObjective.CHOOSE_PATH)));
+        assertEquals(new ConfirmDrive(true),
+                AiExecutionService.getFallbackAction(stateWith(PlayerObjective.CONFIRM_PATH)));
+        // nowhere to drive to
+        assertNull(AiExecutionService.getFallbackAction(stateWith(PlayerObjective.DRIVE)));
+        assertNull(AiExecutionService.getFallbackAction(stateWith(PlayerObjective.IDLE)));
+    }
+
+    /**
+     * Creates an AI controller for a new game in turbo mode whose decisions run on
+     * a new service with a single worker and the given time budget.
+     *
+     * @param timeBudget the time budget of a decision
+     * @return the AI controller
+     */
+    private TestAiController createAiController(final Duration timeBudget) {
+        service = new AiExecutionService(1, timeBudget);
+        final GameConfig config = GameConfig.fromConfig().toBuilder().mapScale(3).aiExecutionService(service)
+                .turboMode(true).build();
+        final GameState state = new GameState(new HexGridImpl(config, Config.TOWN_NAMES), new ArrayList<>());
+        final GameController gameController = new GameController(state);
+        final BlockingQueue<PlayerAction> actions = new LinkedBlockingQueue<>();
+        final PlayerController playerController = new PlayerController(gameController,
+                new PlayerImpl.Builder(1).build(state.getGrid())) {
+            @Override
+            public void triggerAction(final PlayerAction action) {
+                actions.add(action);
+            }
+        };
+        return new TestAiController(playerController, state, actions);
+    }
+
+    private static PlayerState stateWith(final PlayerObjective objective) {
+        return new PlayerState(Set.of(), objective, Set.of(), Set.of(), false, Map.of(), 0);
+    }
+
+    private static PlayerAction nextAction(final TestAiController ai) throws InterruptedException {
+        final PlayerAction action = ai.actions.poll(WAIT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(action, "No action was posted");
+        return action;
+    }
+
+    private static void awaitCondition(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    /**
+     * An AI controller that decides with an exchangeable behaviour and records
+     * the actions posted for its player.
+     */
+    private static final class TestAiController extends AiController {
+        private final BlockingQueue<PlayerAction> actions;
+        private volatile Consumer<TestAiController> behaviour = controller -> {
+        };
+
+        private TestAiController(final PlayerController playerController, final GameState gameState,
+                final BlockingQueue<PlayerAction> actions) {
+            super(playerController, gameState.getGrid(), gameState, null, null, null, null);
+            this.actions = actions;
+        }
+
+        @Override
+        protected void executeActionBasedOnObjective(final PlayerObjective objective) {
+            behaviour.accept(this);
+        }
+    }
+}
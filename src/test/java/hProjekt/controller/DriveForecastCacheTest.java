@@ -0,0 +1,123 @@
+package hProjekt.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+import hProjekt.controller.events.PlayerStateChangedEvent;
+import hProjekt.model.DenseHexGridImpl;
+import hProjekt.model.DriveForecast;
+import hProjekt.model.Edge;
+import hProjekt.model.GameConfig;
+import hProjekt.model.GameState;
+import hProjekt.model.Player;
+import hProjekt.model.PlayerImpl;
+import hProjekt.model.PlayerState;
+
+/**
+ * Checks that {@link PlayerController#getDriveForecast()} is cached until the
+ * player's position, the rented edges or the rails change, and that AI
+ * controllers get the forecast of their drive states.
+ */
+public class DriveForecastCacheTest {
+
+    private DenseHexGridImpl grid;
+    private GameState state;
+    private Player player;
+    private PlayerController playerController;
+    private Edge rail;
+
+    @BeforeEach
+    public void setUp() {
+        final GameConfig config = GameConfig.fromConfig().toBuilder().mapScale(5).build();
+        grid = new DenseHexGridImpl(config, Config.TOWN_NAMES);
+        state = new GameState(grid, new ArrayList<>());
+        player = new PlayerImpl.Builder(1).build(grid);
+        state.addPlayer(player);
+        playerController = new PlayerController(new GameController(state), player);
+        rail = grid.getEdgeById(0);
+        rail.getRailOwnersProperty().getValue().add(player);
+        state.setPlayerPositon(player, rail.getPosition1());
+    }
+
+    @Test
+    public void testNoForecastWithoutPosition() {
+        state.resetPlayerPositions();
+        assertNull(playerController.getDriveForecast());
+    }
+
+    @Test
+    public void testCacheHit() {
+        final DriveForecast forecast = playerController.getDriveForecast();
+        assertNotNull(forecast);
+        assertEquals(playerController.getConfig().getDiceSides(), forecast.getMaxCost());
+        assertSame(forecast, playerController.getDriveForecast());
+    }
+
+    @Test
+    public void testPositionChangeInvalidates() {
+        final DriveForecast forecast = playerController.getDriveForecast();
+        state.setPlayerPositon(player, rail.getPosition2());
+        final DriveForecast moved = playerController.getDriveForecast();
+        assertNotSame(forecast, moved);
+        assertEquals(0, moved.getCost(grid.getTileAt(rail.getPosition2())));
+    }
+
+    @Test
+    public void testRentedEdgesChangeInvalidates() {
+        final DriveForecast forecast = playerController.getDriveForecast();
+        // replaces the set of rented edges, which is compared by identity
+        playerController.resetRentedEdges();
+        final DriveForecast reset = playerController.getDriveForecast();
+        assertNotSame(forecast, reset);
+        assertSame(reset, playerController.getDriveForecast());
+    }
+
+    @Test
+    public void testRailModificationInvalidates() {
+        final DriveForecast forecast = playerController.getDriveForecast();
+        final int cost = rail.getDrivingCost(rail.getPosition1());
+        assertEquals(cost <= forecast.getMaxCost() ? cost : -1, forecast.getCost(grid.getTileAt(rail.getPosition2())));
+
+        rail.removeRail(player);
+        final DriveForecast removed = playerController.getDriveForecast();
+        assertNotSame(forecast, removed);
+        assertEquals(-1, removed.getCost(grid.getTileAt(rail.getPosition2())));
+
+        rail.getRailOwnersProperty().getValue().add(player);
+        final DriveForecast added = playerController.getDriveForecast();
+        assertNotSame(removed, added);
+        assertEquals(forecast.getCost(grid.getTileAt(rail.getPosition2())),
+                added.getCost(grid.getTileAt(rail.getPosition2())));
+    }
+
+    @Test
+    public void testAiControllerGetsForecastOfDriveState() {
+        final AiController ai = new AiController(playerController, grid, state, null, null, null, null) {
+            @Override
+            protected void executeActionBasedOnObjective(final PlayerObjective objective) {
+            }
+        };
+        assertNull(ai.getDriveForecast());
+
+        playerController.getEventBus().publish(new PlayerStateChangedEvent(player, stateWith(PlayerObjective.IDLE)));
+        assertNull(ai.getDriveForecast());
+
+        playerController.getEventBus().publish(new PlayerStateChangedEvent(player, stateWith(PlayerObjective.DRIVE)));
+        assertSame(playerController.getDriveForecast(), ai.getDriveForecast());
+    }
+
+    private static PlayerState stateWith(final PlayerObjective objective) {
+        return new PlayerState(Set.of(), objective, Set.of(), Set.of(), false, Map.of(), 0);
+    }
+}
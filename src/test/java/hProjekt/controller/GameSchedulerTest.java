@@ -0,0 +1,80 @@
+package hProjekt.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+import hProjekt.model.GameConfig;
+
+/**
+ * Checks the threads of the {@link GameScheduler}s and that
+ * {@link GameController#startGameLoop()} starts the game loop on the scheduler
+ * of the game.
+ */
+public class GameSchedulerTest {
+
+    private static final long WAIT_SECONDS = 5;
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        final CompletableFuture<Thread> ran = new CompletableFuture<>();
+        final Thread thread = GameScheduler.virtualThreads().start("Virtual",
+                () -> ran.complete(Thread.currentThread()));
+        assertSame(thread, ran.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(thread.isVirtual());
+        assertEquals("Virtual", thread.getName());
+    }
+
+    @Test
+    public void testPlatformThreads() throws Exception {
+        final CompletableFuture<Thread> ran = new CompletableFuture<>();
+        final Thread thread = GameScheduler.platformThreads().start("Platform",
+                () -> ran.complete(Thread.currentThread()));
+        assertSame(thread, ran.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertFalse(thread.isVirtual());
+        assertTrue(thread.isDaemon());
+        assertEquals("Platform", thread.getName());
+    }
+
+    @Test
+    public void testGameLoopRunsOnScheduler() throws InterruptedException {
+        final GameController gameController = new GameController(
+                GameConfig.fromConfig().toBuilder().mapScale(3).build());
+        assertSame(Config.GAME_SCHEDULER, gameController.getScheduler());
+
+        final List<String> names = new ArrayList<>();
+        final CompletableFuture<Void> loop = new CompletableFuture<>();
+        gameController.setScheduler((name, task) -> {
+            names.add(name);
+            return GameScheduler.platformThreads().start(name, () -> {
+                try {
+                    task.run();
+                    loop.complete(null);
+                } catch (final RuntimeException e) {
+                    loop.completeExceptionally(e);
+                }
+            });
+        });
+
+        final Thread thread = gameController.startGameLoop();
+        assertEquals(List.of("GameLoopThread"), names);
+        assertEquals("GameLoopThread", thread.getName());
+        // the game has no players, so the loop stops right away
+        final ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> loop.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        thread.join(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+    }
+}
@@ -0,0 +1,57 @@
+package hProjekt.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.model.GameConfig;
+
+/**
+ * Checks that {@link TournamentRunner} validates its arguments and records the
+ * failures of its games.
+ */
+public class TournamentRunnerTest {
+
+    private static final List<Class<? extends AiController>> CONTESTANTS = List.of(BasicAiController.class,
+            BasicAiController.class);
+
+    @Test
+    public void testFailuresAreRecorded() {
+        // far more cities than plains, so every map fails to generate
+        final GameConfig config = GameConfig.fromConfig().toBuilder().mapScale(2).numberOfCities(1000).build();
+        final TournamentRunner.Result result = new TournamentRunner(CONTESTANTS, config, 3, 42, 2,
+                Duration.ofSeconds(10)).run();
+
+        assertEquals(3, result.games());
+        assertEquals(3, result.failedGames());
+        assertNotNull(result.firstFailure());
+        assertEquals(0, result.firstFailure().game());
+        assertEquals(42, result.firstFailure().seed());
+        assertInstanceOf(IllegalStateException.class, result.firstFailure().cause());
+        for (final TournamentRunner.Standing standing : result.standings()) {
+            assertEquals(0, standing.wins());
+            assertEquals(0, standing.winRate());
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        final GameConfig config = GameConfig.fromConfig();
+        final Duration timeout = Duration.ofSeconds(10);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new TournamentRunner(List.of(BasicAiController.class), config, 1, 0, 1, timeout));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TournamentRunner(CONTESTANTS, config, 0, 0, 1, timeout));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TournamentRunner(CONTESTANTS, config, 1, 0, 0, timeout));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TournamentRunner(CONTESTANTS, config, 1, 0, 1, Duration.ZERO));
+    }
+}
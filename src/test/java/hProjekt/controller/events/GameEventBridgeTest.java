@@ -0,0 +1,105 @@
+package hProjekt.controller.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+import hProjekt.controller.GameController;
+import hProjekt.controller.GamePhase;
+import hProjekt.controller.PlayerController;
+import hProjekt.controller.PlayerObjective;
+import hProjekt.model.City;
+import hProjekt.model.GameState;
+import hProjekt.model.HexGridImpl;
+import hProjekt.model.PlayerImpl;
+import hProjekt.model.PlayerState;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.util.Pair;
+
+/**
+ * Checks that {@link GameEventBridge} publishes the changes of the properties of
+ * a game and that {@link GameController#castDice()} publishes every roll.
+ */
+public class GameEventBridgeTest {
+
+    @Test
+    public void testPropertyChangesArePublished() {
+        final GameController gameController = createGameController(List.of());
+        final GameState state = gameController.getState();
+        final GameEventBus eventBus = new GameEventBus();
+        final IntegerProperty roundCounter = new SimpleIntegerProperty(0);
+        final Property<Pair<City, City>> chosenCities = new SimpleObjectProperty<>();
+        final Property<PlayerController> activePlayerController = new SimpleObjectProperty<>();
+        GameEventBridge.bridge(eventBus, state, roundCounter, chosenCities, activePlayerController);
+        final List<GameEvent> events = new ArrayList<>();
+        eventBus.subscribe(events::add);
+        final City city = state.getGrid().getCities().values().iterator().next();
+        final PlayerController playerController = new PlayerController(gameController,
+                new PlayerImpl.Builder(1).build(state.getGrid()));
+
+        state.getGamePhaseProperty().setValue(GamePhase.DRIVING_PHASE);
+        roundCounter.set(1);
+        // resetting the round counter does not start a round
+        roundCounter.set(0);
+        chosenCities.setValue(new Pair<>(city, city));
+        activePlayerController.setValue(playerController);
+        activePlayerController.setValue(null);
+        state.getWinnerProperty().setValue(playerController.getPlayer());
+
+        assertEquals(List.of(new GamePhaseChangedEvent(GamePhase.DRIVING_PHASE), new RoundStartedEvent(1),
+                new CitiesChosenEvent(city, city), new ActivePlayerChangedEvent(playerController),
+                new ActivePlayerChangedEvent(null), new GameEndedEvent(playerController.getPlayer())), events);
+    }
+
+    @Test
+    public void testEveryPlayerStateUpdateIsPublished() {
+        final GameController gameController = createGameController(List.of());
+        final PlayerController playerController = new PlayerController(gameController,
+                new PlayerImpl.Builder(1).build(gameController.getState().getGrid()));
+        final GameEventBus eventBus = new GameEventBus();
+        GameEventBridge.bridge(eventBus, playerController);
+        final List<GameEvent> events = new ArrayList<>();
+        eventBus.subscribe(events::add);
+        final PlayerState first = new PlayerState(Set.of(), PlayerObjective.IDLE, Set.of(), Set.of(), false, Map.of(),
+                0);
+        final PlayerState second = new PlayerState(Set.of(), PlayerObjective.IDLE, Set.of(), Set.of(), false,
+                Map.of(), 0);
+
+        playerController.getPlayerStateProperty().setValue(first);
+        // equal states are published as well
+        playerController.getPlayerStateProperty().setValue(second);
+
+        assertEquals(List.of(new PlayerStateChangedEvent(playerController.getPlayer(), first),
+                new PlayerStateChangedEvent(playerController.getPlayer(), second)), events);
+    }
+
+    @Test
+    public void testEveryDiceRollIsPublished() {
+        final GameController gameController = createGameController(List.of(3, 3));
+        final List<GameEvent> events = new ArrayList<>();
+        gameController.getEventBus().subscribe(events::add);
+
+        gameController.castDice();
+        gameController.castDice();
+
+        assertEquals(List.of(new DiceRolledEvent(3), new DiceRolledEvent(3)), events);
+        assertEquals(3, gameController.currentDiceRollProperty().get());
+    }
+
+    private static GameController createGameController(final List<Integer> rolls) {
+        Config.RANDOM.setSeed(0);
+        final List<Integer> remainingRolls = new ArrayList<>(rolls);
+        return new GameController(
+                new GameState(new HexGridImpl(3, Config.NUMBER_OF_CITIES, Config.TOWN_NAMES), new ArrayList<>()),
+                remainingRolls::removeFirst);
+    }
+}
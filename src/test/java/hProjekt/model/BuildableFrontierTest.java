@@ -0,0 +1,80 @@
+package hProjekt.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+
+/**
+ * Compares the {@link BuildableFrontier} of {@link DenseHexGridImpl} with the
+ * candidates computed from all edges of the grid while rails are added and
+ * removed.
+ */
+public class BuildableFrontierTest {
+
+    private static final int OPERATIONS_PER_GRID = 300;
+    private static final int[] MAX_COSTS = {0, 1, 3, 7, Integer.MAX_VALUE};
+
+    @Test
+    public void testSameEdgesAsCandidates() {
+        for (int seed = 0; seed < 10; seed++) {
+            Config.RANDOM.setSeed(seed);
+            final DenseHexGridImpl grid = new DenseHexGridImpl(3 + seed, 10, Config.TOWN_NAMES);
+            final Random random = new Random(seed);
+            final List<Player> players = List.of(new TestPlayer(grid, 0), new TestPlayer(grid, 1),
+                    new TestPlayer(grid, 5));
+            // the frontier of the first player follows every operation, the others are created later
+            grid.getBuildableFrontier(players.get(0));
+
+            for (int i = 0; i < OPERATIONS_PER_GRID; i++) {
+                RailOperations.randomOperation(grid, players, random);
+                if (i == OPERATIONS_PER_GRID / 2) {
+                    grid.getBuildableFrontier(players.get(1));
+                }
+                for (final Player player : players) {
+                    final BuildableFrontier frontier = grid.getBuildableFrontier(player);
+                    final Set<Edge> candidates = computeCandidates(grid, player);
+                    assertEquals(candidates.size(), frontier.size(),
+                            String.format("seed %d, operation %d, %s", seed, i, player));
+                    for (final int maxCost : MAX_COSTS) {
+                        assertEquals(withinCost(candidates, player, maxCost), frontier.getEdges(maxCost),
+                                String.format("seed %d, operation %d, %s, max cost %d", seed, i, player, maxCost));
+                    }
+                }
+            }
+        }
+    }
+
+    private static Set<Edge> computeCandidates(final HexGrid grid, final Player player) {
+        final List<Edge> edges = new ArrayList<>(grid.getEdges().values());
+        final Set<TilePosition> origins = new HashSet<>();
+        for (final Edge edge : edges) {
+            if (edge.isRailOwner(player)) {
+                origins.addAll(edge.getAdjacentTilePositions());
+            }
+        }
+        if (origins.isEmpty()) {
+            grid.getCities().values().stream()
+                    .filter(City::isStartingCity)
+                    .forEach(city -> origins.add(city.getPosition()));
+        }
+        return edges.stream()
+                .filter(edge -> !edge.isRailOwner(player))
+                .filter(edge -> origins.contains(edge.getPosition1()) || origins.contains(edge.getPosition2()))
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<Edge> withinCost(final Set<Edge> edges, final Player player, final int maxCost) {
+        return edges.stream()
+                .filter(edge -> edge.getTotalBuildingCost(player) <= maxCost)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,137 @@
+package hProjekt.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+
+/**
+ * Compares the {@link CityConnectivity} of {@link DenseHexGridImpl} with a
+ * search over all rails while rails are added and removed.
+ */
+public class CityConnectivityTest {
+
+    private static final int OPERATIONS_PER_GRID = 300;
+
+    @Test
+    public void testSameConnectivityAsSearch() {
+        for (int seed = 0; seed < 10; seed++) {
+            Config.RANDOM.setSeed(seed);
+            final DenseHexGridImpl grid = new DenseHexGridImpl(3 + seed, 10, Config.TOWN_NAMES);
+            final Random random = new Random(seed);
+            final List<Player> players = List.of(new TestPlayer(grid, 0), new TestPlayer(grid, 1),
+                    new TestPlayer(grid, 2));
+
+            for (int i = 0; i < OPERATIONS_PER_GRID; i++) {
+                RailOperations.randomOperation(grid, players, random);
+                assertSameConnectivity(grid, String.format("seed %d, operation %d", seed, i));
+            }
+        }
+    }
+
+    @Test
+    public void testRemovalSplitsNetwork() {
+        Config.RANDOM.setSeed(0);
+        final DenseHexGridImpl grid = new DenseHexGridImpl(10, 10, Config.TOWN_NAMES);
+        final CityConnectivity connectivity = grid.getCityConnectivity();
+        final Player player = new TestPlayer(grid, 0);
+        final List<City> cities = new ArrayList<>(grid.getCities().values());
+        final City first = cities.get(0);
+        final City second = cities.get(1);
+        final List<Edge> path = grid.findIndexedPath(first.getPosition(), second.getPosition(),
+                new HashSet<>(grid.getEdges().values()), (from, to) -> 1);
+        assertTrue(path.size() >= 2, "the cities have to be at least two edges apart");
+
+        path.forEach(edge -> grid.getRailOwnership().add(edge.getId(), player));
+        assertTrue(connectivity.isSameNetwork(first, second));
+        assertSameConnectivity(grid, "after building the path");
+
+        path.get(path.size() / 2).removeRail(player);
+        assertFalse(connectivity.isSameNetwork(first, second));
+        assertTrue(connectivity.isConnected(first));
+        assertTrue(connectivity.isConnected(second));
+        assertSameConnectivity(grid, "after splitting the path");
+
+        path.getFirst().removeRail(player);
+        assertFalse(connectivity.isConnected(first));
+        assertSameConnectivity(grid, "after removing the first rail");
+    }
+
+    /**
+     * Compares all queries of the tracker with the components of the rails found
+     * by a breadth-first search.
+     *
+     * @param grid    the grid
+     * @param message the message of failed assertions
+     */
+    private static void assertSameConnectivity(final DenseHexGridImpl grid, final String message) {
+        final Map<TilePosition, Integer> components = railComponents(grid);
+        final CityConnectivity connectivity = grid.getCityConnectivity();
+        final Map<TilePosition, City> connected = new HashMap<>();
+        final Map<Integer, Integer> citiesPerComponent = new HashMap<>();
+        for (final City city : grid.getCities().values()) {
+            final Integer component = components.get(city.getPosition());
+            if (component != null) {
+                connected.put(city.getPosition(), city);
+                citiesPerComponent.merge(component, 1, Integer::sum);
+            }
+        }
+
+        assertEquals(connected, grid.getConnectedCities(), message);
+        assertEquals(grid.getCities().size() - connected.size(), grid.getUnconnectedCities().size(), message);
+        assertEquals(connected.size(), connectivity.getConnectedCityCount(), message);
+        for (final City city : grid.getCities().values()) {
+            final Integer component = components.get(city.getPosition());
+            assertEquals(component == null ? 0 : citiesPerComponent.get(component),
+                    connectivity.getNetworkCityCount(city), message);
+            for (final City other : grid.getCities().values()) {
+                final boolean sameNetwork = city.equals(other)
+                        || component != null && component.equals(components.get(other.getPosition()));
+                assertEquals(sameNetwork, connectivity.isSameNetwork(city, other), message);
+            }
+        }
+    }
+
+    /**
+     * Numbers the components of the tiles at which rails end.
+     *
+     * @param grid the grid
+     * @return the component of every tile at which a rail ends
+     */
+    private static Map<TilePosition, Integer> railComponents(final HexGrid grid) {
+        final Map<TilePosition, Integer> components = new HashMap<>();
+        int component = 0;
+        for (final Edge start : grid.getEdges().values()) {
+            if (!start.hasRail() || components.containsKey(start.getPosition1())) {
+                continue;
+            }
+            final Queue<TilePosition> queue = new ArrayDeque<>(List.of(start.getPosition1()));
+            components.put(start.getPosition1(), component);
+            while (!queue.isEmpty()) {
+                final TilePosition position = queue.remove();
+                for (final Edge edge : grid.getTileAt(position).getEdges()) {
+                    final TilePosition next = edge.getPosition1().equals(position) ? edge.getPosition2()
+                            : edge.getPosition1();
+                    if (edge.hasRail() && !components.containsKey(next)) {
+                        components.put(next, component);
+                        queue.add(next);
+                    }
+                }
+            }
+            component++;
+        }
+        return components;
+    }
+}
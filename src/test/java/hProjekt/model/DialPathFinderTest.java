@@ -0,0 +1,109 @@
+package hProjekt.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.IntBinaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+
+/**
+ * Compares the paths of {@link DialPathFinder} with the paths of
+ * {@link HexGridImpl#findPath}.
+ */
+public class DialPathFinderTest {
+
+    private static final int SEARCHES_PER_GRID = 200;
+
+    @Test
+    public void testSamePathsAsHexGridImpl() {
+        for (int seed = 0; seed < 10; seed++) {
+            Config.RANDOM.setSeed(seed);
+            final DenseHexGridImpl dense = new DenseHexGridImpl(3 + seed, 10, Config.TOWN_NAMES);
+            final HexGridImpl reference = new ReferenceGrid(dense);
+            final Random random = new Random(seed);
+            final List<TilePosition> positions = new ArrayList<>(dense.getTiles().keySet());
+            final List<BiFunction<TilePosition, TilePosition, Integer>> costFunctions = List.of(
+                    (from, to) -> dense.getEdge(from, to).getDrivingCost(from),
+                    (from, to) -> Math.floorMod(from.q() * 31 + to.r() * 17, 4),
+                    (from, to) -> 1);
+
+            for (int i = 0; i < SEARCHES_PER_GRID; i++) {
+                final Set<Edge> availableEdges = new HashSet<>();
+                final double density = random.nextDouble();
+                for (final Edge edge : dense.getEdges().values()) {
+                    if (random.nextDouble() < density) {
+                        availableEdges.add(edge);
+                    }
+                }
+                final TilePosition start = positions.get(random.nextInt(positions.size()));
+                final TilePosition target = positions.get(random.nextInt(positions.size()));
+                final BiFunction<TilePosition, TilePosition, Integer> costFunction = costFunctions
+                        .get(random.nextInt(costFunctions.size()));
+
+                assertEquals(reference.findPath(start, target, availableEdges, costFunction),
+                        dense.findPath(start, target, availableEdges, costFunction),
+                        String.format("seed %d, search %d from %s to %s", seed, i, start, target));
+            }
+        }
+    }
+
+    @Test
+    public void testAStarFindsPathsOfSameCost() {
+        for (int seed = 0; seed < 10; seed++) {
+            Config.RANDOM.setSeed(seed);
+            final DenseHexGridImpl dense = new DenseHexGridImpl(3 + seed, 10, Config.TOWN_NAMES);
+            final DialPathFinder pathFinder = dense.getPathFinder();
+            final Random random = new Random(seed);
+            final Set<Edge> allEdges = new HashSet<>(dense.getEdges().values());
+            final IntBinaryOperator costFunction = (from, to) -> 1 + Math.floorMod(from * 7 + to * 3, 3);
+            long dijkstraExpanded = 0;
+            long aStarExpanded = 0;
+
+            for (int i = 0; i < SEARCHES_PER_GRID; i++) {
+                final int start = randomTileIndex(dense, random);
+                final int target = randomTileIndex(dense, random);
+
+                final List<Edge> dijkstraPath = pathFinder.findPath(start, target, allEdges, costFunction);
+                final int dijkstraDistance = pathFinder.getDistance(target);
+                dijkstraExpanded += pathFinder.getExpandedNodes();
+                final List<Edge> aStarPath = pathFinder.findPath(start, target, allEdges, costFunction, 1);
+                aStarExpanded += pathFinder.getExpandedNodes();
+
+                assertEquals(dijkstraDistance, pathFinder.getDistance(target));
+                assertEquals(dijkstraPath.isEmpty(), aStarPath.isEmpty());
+            }
+            assertTrue(aStarExpanded <= dijkstraExpanded,
+                    String.format("A* expanded %d tiles, Dijkstra %d", aStarExpanded, dijkstraExpanded));
+        }
+    }
+
+    @Test
+    public void testAStarRejectsCostsBelowMinimum() {
+        Config.RANDOM.setSeed(0);
+        final DenseHexGridImpl dense = new DenseHexGridImpl(5, 10, Config.TOWN_NAMES);
+        final TilePosition start = new TilePosition(0, 0);
+        final TilePosition target = new TilePosition(3, 0);
+        final Set<Edge> allEdges = new HashSet<>(dense.getEdges().values());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> dense.findIndexedPath(start, target, allEdges, (from, to) -> 1, 2));
+    }
+
+    private static int randomTileIndex(final DenseHexGridImpl grid, final Random random) {
+        int index;
+        do {
+            index = random.nextInt(grid.getTileCapacity());
+        } while (grid.getTileAtIndex(index) == null);
+        return index;
+    }
+}
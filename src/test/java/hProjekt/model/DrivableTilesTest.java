@@ -0,0 +1,182 @@
+package hProjekt.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+
+/**
+ * Compares {@link DrivableTiles#search} with the generic search of
+ * {@link hProjekt.controller.PlayerController#getDrivableTiles()} on a
+ * {@link HexGridImpl} with the same rails.
+ */
+public class DrivableTilesTest {
+
+    private static final int OPERATIONS_PER_GRID = 200;
+
+    private static final int OPERATIONS_PER_COMPARISON = 10;
+
+    private static final int SEARCHES_PER_COMPARISON = 20;
+
+    @Test
+    public void testSameTilesAndPathsAsGenericSearch() {
+        for (int seed = 0; seed < 10; seed++) {
+            Config.RANDOM.setSeed(seed);
+            final DenseHexGridImpl dense = new DenseHexGridImpl(3 + seed, 10, Config.TOWN_NAMES);
+            Config.RANDOM.setSeed(seed);
+            final HexGridImpl reference = new ReferenceGrid(3 + seed, 10, Config.TOWN_NAMES);
+            final Random random = new Random(seed);
+            final List<Player> players = List.of(new TestPlayer(dense, 0), new TestPlayer(dense, 1),
+                    new TestPlayer(dense, 2));
+            final List<TilePosition> cities = new ArrayList<>(dense.getCities().keySet());
+
+            for (int i = 0; i < OPERATIONS_PER_GRID; i++) {
+                RailOperations.randomOperation(dense, players, random);
+                if (i % OPERATIONS_PER_COMPARISON != 0) {
+                    continue;
+                }
+                for (final Edge edge : dense.getEdges().values()) {
+                    reference.getEdge(edge.getPosition1(), edge.getPosition2()).getRailOwnersProperty()
+                            .setValue(new ArrayList<>(edge.getRailOwners()));
+                }
+                for (int j = 0; j < SEARCHES_PER_COMPARISON; j++) {
+                    final Player player = players.get(random.nextInt(players.size()));
+                    final List<Edge> rails = new ArrayList<>(dense.getRails(player).values());
+                    if (rails.isEmpty()) {
+                        continue;
+                    }
+                    final Edge rail = rails.get(random.nextInt(rails.size()));
+                    final TilePosition start = random.nextBoolean() ? rail.getPosition1() : rail.getPosition2();
+                    final TilePosition target = cities.get(random.nextInt(cities.size()));
+                    final int diceRoll = 1 + random.nextInt(12);
+
+                    // the player's rails and some rented rails of the other players
+                    final BitSet availableEdgeIds = dense.getRailIndex().getRailIds(player);
+                    for (final Edge edge : dense.getEdges().values()) {
+                        if (edge.hasRail() && random.nextInt(4) == 0) {
+                            availableEdgeIds.set(edge.getId());
+                        }
+                    }
+                    final Set<Edge> availableEdges = new HashSet<>();
+                    for (int id = availableEdgeIds.nextSetBit(0); id >= 0; id = availableEdgeIds.nextSetBit(id + 1)) {
+                        final Edge edge = dense.getEdgeById(id);
+                        availableEdges.add(reference.getEdge(edge.getPosition1(), edge.getPosition2()));
+                    }
+
+                    final String message = String.format("seed %d, operation %d, start %s, target %s, roll %d",
+                            seed, i, start, target, diceRoll);
+                    final Map<TilePosition, List<TilePosition>> expected = toPositions(
+                            search(reference, availableEdges, start, target, diceRoll));
+                    final DrivableTiles actual = DrivableTiles.search(dense, dense.tileIndex(start),
+                            dense.tileIndex(target), availableEdgeIds, diceRoll);
+                    assertEquals(expected, toPositions(actual), message);
+                    for (final Tile tile : actual.keySet()) {
+                        final List<Tile> path = actual.get(tile);
+                        assertEquals(path.get(0), path.get(1), message);
+                        assertEquals(drivingCost(reference, path), actual.getDistance(tile), message);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStartTileIsDuplicated() {
+        Config.RANDOM.setSeed(0);
+        final DenseHexGridImpl grid = new DenseHexGridImpl(5, 10, Config.TOWN_NAMES);
+        final Player player = new TestPlayer(grid, 0);
+        final Edge rail = grid.getEdgeById(0);
+        grid.getRailOwnership().add(rail.getId(), player);
+        final Tile start = grid.getTileAt(rail.getPosition1());
+        final Tile next = grid.getTileAt(rail.getPosition2());
+        final int cost = rail.getDrivingCost(rail.getPosition1());
+
+        final DrivableTiles reachable = DrivableTiles.search(grid, grid.tileIndex(start.getPosition()),
+                grid.tileIndex(next.getPosition()), grid.getRailIndex().getRailIds(player), cost);
+        assertEquals(Map.of(next, List.of(start, start, next)), reachable);
+        assertEquals(cost, reachable.getDistance(next));
+
+        // the neighbour can not be reached, so the player may stay on the start tile
+        final DrivableTiles stuck = DrivableTiles.search(grid, grid.tileIndex(start.getPosition()),
+                grid.tileIndex(next.getPosition()), grid.getRailIndex().getRailIds(player), cost - 1);
+        assertEquals(Map.of(start, List.of(start, start)), stuck);
+        assertEquals(0, stuck.getDistance(start));
+    }
+
+    /**
+     * The generic search of {@link hProjekt.controller.PlayerController#getDrivableTiles()}.
+     */
+    private static Map<Tile, List<Tile>> search(final HexGrid grid, final Set<Edge> availableEdges,
+            final TilePosition start, final TilePosition target, final int diceRoll) {
+        final Tile startNode = grid.getTileAt(start);
+        final Set<Tile> visitedNodes = new HashSet<>(Set.of(startNode));
+        final List<Tile> nodeQueue = new ArrayList<>(List.of(startNode));
+        final List<List<Tile>> pathQueue = new ArrayList<>(List.of(List.of(startNode)));
+        final List<Integer> distanceQueue = new ArrayList<>(List.of(0));
+        final Map<Tile, List<Tile>> drivableTiles = new HashMap<>();
+
+        while (!nodeQueue.isEmpty()) {
+            final Tile current = nodeQueue.removeFirst();
+            final List<Tile> currentPath = pathQueue.removeFirst();
+            final int currentDistance = distanceQueue.removeFirst();
+            for (final Tile tile : current.getConnectedNeighbours(availableEdges)) {
+                if (visitedNodes.contains(tile)) {
+                    continue;
+                }
+                final int newDistance = currentDistance
+                        + grid.getEdge(current.getPosition(), tile.getPosition()).getDrivingCost(current.getPosition());
+                if (newDistance <= diceRoll) {
+                    final List<Tile> path = new ArrayList<>(currentPath);
+                    path.add(current);
+                    if (target.equals(tile.getPosition())) {
+                        path.add(tile);
+                        return Map.of(tile, path);
+                    }
+                    if (newDistance < diceRoll) {
+                        nodeQueue.add(tile);
+                        pathQueue.add(path);
+                        distanceQueue.add(newDistance);
+                    } else {
+                        path.add(tile);
+                        drivableTiles.put(tile, path);
+                    }
+                } else if (!drivableTiles.containsKey(currentPath.getLast())) {
+                    final List<Tile> path = new ArrayList<>(currentPath);
+                    path.add(current);
+                    drivableTiles.put(current, path);
+                }
+            }
+            visitedNodes.add(current);
+        }
+        return drivableTiles;
+    }
+
+    private static int drivingCost(final HexGrid grid, final List<Tile> path) {
+        int cost = 0;
+        for (int i = 1; i < path.size(); i++) {
+            final TilePosition from = path.get(i - 1).getPosition();
+            final TilePosition to = path.get(i).getPosition();
+            if (!from.equals(to)) {
+                cost += grid.getEdge(from, to).getDrivingCost(from);
+            }
+        }
+        return cost;
+    }
+
+    private static Map<TilePosition, List<TilePosition>> toPositions(final Map<Tile, List<Tile>> drivableTiles) {
+        final Map<TilePosition, List<TilePosition>> positions = new HashMap<>();
+        drivableTiles.forEach((tile, path) -> positions.put(tile.getPosition(),
+                path.stream().map(Tile::getPosition).toList()));
+        return positions;
+    }
+}
@@ -0,0 +1,167 @@
+package hProjekt.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+import hProjekt.model.TilePosition.EdgeDirection;
+
+/**
+ * Compares the costs of {@link DriveForecast#compute} with a Dijkstra search over
+ * the edges of a {@link DenseHexGridImpl} with random rails.
+ */
+public class DriveForecastTest {
+
+    private static final int OPERATIONS_PER_GRID = 200;
+
+    private static final int OPERATIONS_PER_COMPARISON = 10;
+
+    private static final int SEARCHES_PER_COMPARISON = 10;
+
+    @Test
+    public void testSameCostsAsDijkstra() {
+        for (int seed = 0; seed < 5; seed++) {
+            Config.RANDOM.setSeed(seed);
+            final DenseHexGridImpl grid = new DenseHexGridImpl(3 + seed, 10, Config.TOWN_NAMES);
+            final Random random = new Random(seed);
+            final List<Player> players = List.of(new TestPlayer(grid, 0), new TestPlayer(grid, 1));
+            final List<TilePosition> cities = new ArrayList<>(grid.getCities().keySet());
+
+            for (int i = 0; i < OPERATIONS_PER_GRID; i++) {
+                RailOperations.randomOperation(grid, players, random);
+                if (i % OPERATIONS_PER_COMPARISON != 0) {
+                    continue;
+                }
+                for (int j = 0; j < SEARCHES_PER_COMPARISON; j++) {
+                    final Player player = players.get(random.nextInt(players.size()));
+                    final List<Edge> rails = new ArrayList<>(grid.getRails(player).values());
+                    if (rails.isEmpty()) {
+                        continue;
+                    }
+                    final Edge rail = rails.get(random.nextInt(rails.size()));
+                    final TilePosition start = random.nextBoolean() ? rail.getPosition1() : rail.getPosition2();
+                    final TilePosition target = cities.get(random.nextInt(cities.size()));
+                    final int maxCost = 1 + random.nextInt(12);
+                    final BitSet availableEdgeIds = grid.getRailIndex().getRailIds(player);
+
+                    final String message = String.format("seed %d, operation %d, start %s, target %s, max cost %d",
+                            seed, i, start, target, maxCost);
+                    final Map<TilePosition, Integer> expected = dijkstra(grid, availableEdgeIds, start, maxCost);
+                    final DriveForecast forecast = DriveForecast.compute(grid, grid.tileIndex(start),
+                            grid.tileIndex(target), availableEdgeIds, maxCost);
+                    assertEquals(maxCost, forecast.getMaxCost(), message);
+                    for (final Tile tile : grid.getTiles().values()) {
+                        assertEquals(expected.getOrDefault(tile.getPosition(), -1), forecast.getCost(tile), message);
+                    }
+                    for (int cost = 0; cost <= maxCost; cost++) {
+                        final int finalCost = cost;
+                        final Set<TilePosition> withCost = new HashSet<>();
+                        expected.forEach((position, tileCost) -> {
+                            if (tileCost == finalCost) {
+                                withCost.add(position);
+                            }
+                        });
+                        assertEquals(withCost, positions(forecast.getTilesWithCost(cost)), message);
+
+                        final Set<TilePosition> reachable = new HashSet<>();
+                        expected.forEach((position, tileCost) -> {
+                            if (tileCost <= finalCost && !position.equals(start)) {
+                                reachable.add(position);
+                            }
+                        });
+                        assertEquals(reachable, positions(forecast.getReachableTiles(cost)), message);
+                    }
+                    final int targetCost = expected.getOrDefault(target, -1);
+                    assertEquals(targetCost, forecast.getTargetCost(), message);
+                    assertEquals(targetCost >= 0, forecast.canReachTarget(maxCost), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testTargetProbability() {
+        Config.RANDOM.setSeed(0);
+        final DenseHexGridImpl grid = new DenseHexGridImpl(5, 10, Config.TOWN_NAMES);
+        final Player player = new TestPlayer(grid, 0);
+        final Edge rail = grid.getEdgeById(0);
+        grid.getRailOwnership().add(rail.getId(), player);
+        final int start = grid.tileIndex(rail.getPosition1());
+        final int target = grid.tileIndex(rail.getPosition2());
+        final int cost = rail.getDrivingCost(rail.getPosition1());
+        final int sides = Math.max(cost, 6);
+
+        final DriveForecast forecast = DriveForecast.compute(grid, start, target,
+                grid.getRailIndex().getRailIds(player), sides);
+        assertEquals(cost, forecast.getTargetCost());
+        assertFalse(forecast.canReachTarget(cost - 1));
+        assertTrue(forecast.canReachTarget(cost));
+        assertEquals((sides - Math.max(cost, 1) + 1) / (double) sides, forecast.getTargetProbability());
+        assertEquals(List.of(grid.getTileAt(rail.getPosition2())), forecast.getReachableTiles(sides));
+
+        // the target can not be reached without the rail
+        final DriveForecast unreachable = DriveForecast.compute(grid, start, target, new BitSet(), sides);
+        assertEquals(-1, unreachable.getTargetCost());
+        assertEquals(0, unreachable.getTargetProbability());
+        assertEquals(List.of(), unreachable.getReachableTiles(sides));
+
+        // there is no target
+        final DriveForecast noTarget = DriveForecast.compute(grid, start, -1,
+                grid.getRailIndex().getRailIds(player), sides);
+        assertEquals(-1, noTarget.getTargetCost());
+        assertFalse(noTarget.canReachTarget(sides));
+    }
+
+    /**
+     * Computes the cheapest driving costs up to the given cost with a Dijkstra
+     * search over the edges of the grid.
+     */
+    private static Map<TilePosition, Integer> dijkstra(final HexGrid grid, final BitSet availableEdgeIds,
+            final TilePosition start, final int maxCost) {
+        final Map<TilePosition, Integer> costs = new HashMap<>();
+        final Map<TilePosition, Integer> tentative = new HashMap<>(Map.of(start, 0));
+        final PriorityQueue<Map.Entry<TilePosition, Integer>> queue = new PriorityQueue<>(
+                Map.Entry.comparingByValue());
+        queue.add(Map.entry(start, 0));
+        while (!queue.isEmpty()) {
+            final Map.Entry<TilePosition, Integer> current = queue.poll();
+            final TilePosition position = current.getKey();
+            if (costs.containsKey(position)) {
+                continue;
+            }
+            costs.put(position, current.getValue());
+            for (final EdgeDirection direction : EdgeDirection.VALUES) {
+                final TilePosition neighbour = TilePosition.neighbour(position, direction);
+                final Edge edge = grid.getEdge(position, neighbour);
+                if (edge == null || !availableEdgeIds.get(edge.getId())) {
+                    continue;
+                }
+                final int newCost = current.getValue() + edge.getDrivingCost(position);
+                if (newCost <= maxCost && newCost < tentative.getOrDefault(neighbour, Integer.MAX_VALUE)) {
+                    tentative.put(neighbour, newCost);
+                    queue.add(Map.entry(neighbour, newCost));
+                }
+            }
+        }
+        return costs;
+    }
+
+    private static Set<TilePosition> positions(final List<Tile> tiles) {
+        final Set<TilePosition> positions = new HashSet<>();
+        tiles.forEach(tile -> positions.add(tile.getPosition()));
+        return positions;
+    }
+}
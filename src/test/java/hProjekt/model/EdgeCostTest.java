@@ -0,0 +1,61 @@
+package hProjekt.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+
+/**
+ * Compares the costs of the edges of {@link DenseHexGridImpl}, which are
+ * computed from owner masks and cached, with the costs of the edges of
+ * {@link HexGridImpl}, which are computed from the owners properties.
+ */
+public class EdgeCostTest {
+
+    private static final int OPERATIONS_PER_GRID = 200;
+
+    private static final int OPERATIONS_PER_COMPARISON = 10;
+
+    @Test
+    public void testSameCostsAsHexGridImpl() {
+        for (int seed = 0; seed < 10; seed++) {
+            Config.RANDOM.setSeed(seed);
+            final DenseHexGridImpl dense = new DenseHexGridImpl(3 + seed, 10, Config.TOWN_NAMES);
+            Config.RANDOM.setSeed(seed);
+            final HexGridImpl reference = new ReferenceGrid(3 + seed, 10, Config.TOWN_NAMES);
+            assertEquals(reference.getTiles().keySet(), dense.getTiles().keySet());
+            assertEquals(reference.getCities().keySet(), dense.getCities().keySet());
+            final Random random = new Random(seed);
+            final List<Player> players = List.of(new TestPlayer(dense, 0), new TestPlayer(dense, 1),
+                    new TestPlayer(dense, 2), new TestPlayer(dense, 3));
+
+            for (int i = 0; i < OPERATIONS_PER_GRID; i++) {
+                RailOperations.randomOperation(dense, players, random);
+                if (i % OPERATIONS_PER_COMPARISON != 0) {
+                    continue;
+                }
+                for (final Edge edge : dense.getEdges().values()) {
+                    reference.getEdge(edge.getPosition1(), edge.getPosition2()).getRailOwnersProperty()
+                            .setValue(new ArrayList<>(edge.getRailOwners()));
+                }
+                for (final Edge edge : dense.getEdges().values()) {
+                    final Edge referenceEdge = reference.getEdge(edge.getPosition1(), edge.getPosition2());
+                    for (final Player player : players) {
+                        final String message = String.format("seed %d, operation %d, %s, %s", seed, i, edge,
+                                player);
+                        assertEquals(referenceEdge.getParallelCostPerPlayer(player),
+                                edge.getParallelCostPerPlayer(player), message);
+                        assertEquals(referenceEdge.getBaseBuildingCost(), edge.getBaseBuildingCost(), message);
+                        assertEquals(referenceEdge.getTotalBuildingCost(player), edge.getTotalBuildingCost(player),
+                                message);
+                    }
+                }
+            }
+        }
+    }
+}
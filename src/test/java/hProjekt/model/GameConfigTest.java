@@ -0,0 +1,110 @@
+package hProjekt.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+
+/**
+ * Checks that a {@link GameConfig} takes its defaults from {@link Config},
+ * copies its values to a builder and creates reproducible maps.
+ */
+public class GameConfigTest {
+
+    @Test
+    public void testFromConfig() {
+        final GameConfig config = GameConfig.fromConfig();
+        assertEquals(Config.DICE_SIDES, config.getDiceSides());
+        assertEquals(Config.NUMBER_OF_CITIES, config.getNumberOfCities());
+        assertEquals(Config.MAP_SCALE, config.getMapScale());
+        assertEquals(Config.PATH_CACHE_SIZE, config.getPathCacheSize());
+        assertEquals(Config.WINNING_CREDITS, config.getWinningCredits());
+        assertEquals(Config.TILE_TYPE_TO_BUILDING_COST, config.getTileTypeToBuildingCost());
+        assertEquals(Config.TILE_TYPE_TO_DRIVING_COST, config.getTileTypeToDrivingCost());
+        assertSame(Config.RANDOM, config.getRandom());
+        assertEquals(Config.TURBO_MODE, config.isTurboMode());
+
+        // every configuration gets its own service
+        assertNotSame(config.getAiExecutionService(), GameConfig.fromConfig().getAiExecutionService());
+    }
+
+    @Test
+    public void testToBuilderCopiesValues() {
+        final Random random = new Random(0);
+        final GameConfig config = GameConfig.fromConfig().toBuilder().diceSides(12).numberOfCities(7).mapScale(4)
+                .cityNearCityProbability(0.25).pathCacheSize(3).winningCredits(List.of(1, 2)).random(random)
+                .turboMode(true).build();
+        final GameConfig copy = config.toBuilder().build();
+
+        assertEquals(12, copy.getDiceSides());
+        assertEquals(7, copy.getNumberOfCities());
+        assertEquals(4, copy.getMapScale());
+        assertEquals(0.25, copy.getCityNearCityProbability());
+        assertEquals(3, copy.getPathCacheSize());
+        assertEquals(List.of(1, 2), copy.getWinningCredits());
+        assertSame(random, copy.getRandom());
+        assertSame(config.getAiExecutionService(), copy.getAiExecutionService());
+        assertTrue(copy.isTurboMode());
+
+        // the copy has its own turbo mode
+        copy.setTurboMode(false);
+        assertFalse(copy.isTurboMode());
+        assertTrue(config.isTurboMode());
+    }
+
+    @Test
+    public void testCostsAreCopied() {
+        final Map<Set<Tile.Type>, Integer> buildingCosts = new HashMap<>(Config.TILE_TYPE_TO_BUILDING_COST);
+        final GameConfig config = GameConfig.fromConfig().toBuilder().tileTypeToBuildingCost(buildingCosts).build();
+        buildingCosts.clear();
+        assertEquals(Config.TILE_TYPE_TO_BUILDING_COST, config.getTileTypeToBuildingCost());
+    }
+
+    @Test
+    public void testMissingCost() {
+        assertThrows(IllegalStateException.class,
+                () -> GameConfig.fromConfig().toBuilder().tileTypeToDrivingCost(Map.of()).build());
+    }
+
+    @Test
+    public void testOfGrid() {
+        final GameConfig config = GameConfig.fromConfig().toBuilder().mapScale(3).build();
+        assertSame(config, GameConfig.of(new HexGridImpl(config, Config.TOWN_NAMES)));
+
+        // any other grid gets the values of Config
+        final HexGrid grid = (HexGrid) Proxy.newProxyInstance(HexGrid.class.getClassLoader(),
+                new Class<?>[] { HexGrid.class }, (proxy, method, args) -> {
+                    throw new UnsupportedOperationException();
+                });
+        assertEquals(Config.MAP_SCALE, GameConfig.of(grid).getMapScale());
+    }
+
+    @Test
+    public void testSeededRandomReproducesMap() {
+        final GameConfig config = GameConfig.fromConfig().toBuilder().mapScale(5).numberOfCities(10).build();
+        final HexGridImpl first = new HexGridImpl(config.toBuilder().random(new Random(42)).build(),
+                Config.TOWN_NAMES);
+        final HexGridImpl second = new HexGridImpl(config.toBuilder().random(new Random(42)).build(),
+                Config.TOWN_NAMES);
+        assertEquals(types(first), types(second));
+        assertEquals(first.getCities().keySet(), second.getCities().keySet());
+    }
+
+    private static Map<TilePosition, Tile.Type> types(final HexGrid grid) {
+        return grid.getTiles().values().stream().collect(Collectors.toMap(Tile::getPosition, Tile::getType));
+    }
+}
@@ -0,0 +1,142 @@
+package hProjekt.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+
+/**
+ * Compares the radius and nearest queries of a {@link HexSpatialIndex} with a
+ * scan over all items.
+ */
+public class HexSpatialIndexTest {
+
+    private static final TilePosition ORIGIN = new TilePosition(0, 0);
+
+    @Test
+    public void testEmptyIndex() {
+        final HexSpatialIndex<String> index = new HexSpatialIndex<>(4);
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.getWithin(ORIGIN, 0));
+        assertEquals(List.of(), index.getWithin(ORIGIN, 100));
+        assertFalse(index.anyWithin(ORIGIN, 100));
+        assertNull(index.getNearest(ORIGIN));
+
+        // an index whose items were all removed is empty again
+        index.put(new TilePosition(3, -1), "item");
+        index.remove(new TilePosition(3, -1));
+        assertEquals(List.of(), index.getWithin(ORIGIN, 100));
+        assertNull(index.getNearest(ORIGIN));
+    }
+
+    @Test
+    public void testRadiusZero() {
+        final HexSpatialIndex<String> index = new HexSpatialIndex<>(4);
+        final TilePosition position = new TilePosition(-5, 2);
+        index.put(position, "item");
+        index.put(TilePosition.neighbour(position, TilePosition.EdgeDirection.EAST), "neighbour");
+
+        assertEquals(List.of("item"), index.getWithin(position, 0));
+        assertTrue(index.anyWithin(position, 0));
+        assertEquals(List.of(), index.getWithin(ORIGIN, 0));
+        assertFalse(index.anyWithin(ORIGIN, 0));
+        assertEquals(List.of(), index.getWithin(position, -1));
+        assertFalse(index.anyWithin(position, -1));
+        assertEquals("item", index.getNearest(position));
+    }
+
+    @Test
+    public void testSameItemsAsScan() {
+        for (int seed = 0; seed < 10; seed++) {
+            final Random random = new Random(seed);
+            final int bucketSize = 1 + random.nextInt(8);
+            final HexSpatialIndex<TilePosition> index = new HexSpatialIndex<>(bucketSize);
+            final List<TilePosition> items = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                final TilePosition position = new TilePosition(random.nextInt(41) - 20, random.nextInt(41) - 20);
+                if (index.get(position) == null) {
+                    items.add(position);
+                }
+                index.put(position, position);
+            }
+            for (int i = 0; i < 10; i++) {
+                final TilePosition removed = items.remove(random.nextInt(items.size()));
+                assertEquals(removed, index.remove(removed));
+            }
+            assertEquals(items.size(), index.size());
+
+            for (int i = 0; i < 50; i++) {
+                // some centers are far outside the items
+                final TilePosition center = new TilePosition(random.nextInt(81) - 40, random.nextInt(81) - 40);
+                final int distance = random.nextInt(15);
+                final String message = String.format("seed %d, bucket size %d, center %s, distance %d", seed,
+                        bucketSize, center, distance);
+                final List<TilePosition> expected = within(items, center, distance);
+                assertEquals(expected, index.getWithin(center, distance), message);
+                assertEquals(!expected.isEmpty(), index.anyWithin(center, distance), message);
+                assertEquals(within(items, center, Integer.MAX_VALUE).getFirst(), index.getNearest(center), message);
+            }
+        }
+    }
+
+    @Test
+    public void testGridEdge() {
+        Config.RANDOM.setSeed(0);
+        final HexGridImpl grid = new HexGridImpl(5, 20, Config.TOWN_NAMES);
+        final int radius = grid.getTiles().keySet().stream()
+                .mapToInt(position -> HexSpatialIndex.distance(0, 0, position.q(), position.r())).max().orElseThrow();
+        final List<TilePosition> cities = new ArrayList<>(grid.getCities().keySet());
+        final HexSpatialIndex<City> index = grid.getCityIndex();
+
+        // the tiles on the outermost ring of the grid and a position just outside
+        final List<TilePosition> centers = new ArrayList<>(grid.getTiles().keySet().stream()
+                .filter(position -> HexSpatialIndex.distance(0, 0, position.q(), position.r()) == radius)
+                .toList());
+        centers.add(new TilePosition(radius + 1, 0));
+        for (final TilePosition center : centers) {
+            for (final int distance : new int[] { 0, 1, radius, 2 * radius + 1 }) {
+                final List<City> expected = within(cities, center, distance).stream()
+                        .map(grid.getCities()::get).toList();
+                assertEquals(expected, index.getWithin(center, distance), center + ", distance " + distance);
+            }
+            assertEquals(grid.getCities().get(within(cities, center, Integer.MAX_VALUE).getFirst()),
+                    index.getNearest(center), center.toString());
+        }
+        // every city is within twice the radius of the grid
+        assertEquals(grid.getCities().size(), index.getWithin(centers.getFirst(), 2 * radius).size());
+    }
+
+    @Test
+    public void testInvalidBucketSize() {
+        assertThrows(IllegalArgumentException.class, () -> new HexSpatialIndex<>(0));
+    }
+
+    /**
+     * Returns the given positions with at most the given distance to the center,
+     * ordered by their distance and then by their position.
+     */
+    private static List<TilePosition> within(final List<TilePosition> positions, final TilePosition center,
+            final int distance) {
+        return positions.stream()
+                .filter(position -> distance(center, position) <= distance)
+                .sorted(Comparator.comparingInt((TilePosition position) -> distance(center, position))
+                        .thenComparing(Comparator.naturalOrder()))
+                .toList();
+    }
+
+    private static int distance(final TilePosition a, final TilePosition b) {
+        final int dq = a.q() - b.q();
+        final int dr = a.r() - b.r();
+        return (Math.abs(dq) + Math.abs(dr) + Math.abs(dq + dr)) / 2;
+    }
+}
@@ -0,0 +1,130 @@
+package hProjekt.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+
+/**
+ * Checks the hits, evictions and invalidations of a {@link PathCache}.
+ */
+public class PathCacheTest {
+
+    private DenseHexGridImpl grid;
+    private Player player;
+    private Edge rail;
+    private AtomicInteger searches;
+    private Supplier<List<Edge>> search;
+
+    @BeforeEach
+    public void setUp() {
+        Config.RANDOM.setSeed(0);
+        grid = new DenseHexGridImpl(5, 10, Config.TOWN_NAMES);
+        player = new TestPlayer(grid, 0);
+        rail = grid.getEdgeById(0);
+        grid.getRailOwnership().add(rail.getId(), player);
+        searches = new AtomicInteger();
+        search = () -> {
+            searches.incrementAndGet();
+            return List.of(rail);
+        };
+    }
+
+    @Test
+    public void testHit() {
+        final PathCache cache = new PathCache(grid, 4);
+        final List<Edge> path = cache.getPath(1, 2, Set.of(rail), search);
+        assertSame(path, cache.getPath(1, 2, Set.of(rail), search));
+        assertEquals(1, searches.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.5, cache.getHitRatio());
+
+        // other tiles or other edges are a different path
+        cache.getPath(2, 1, Set.of(rail), search);
+        cache.getPath(1, 2, Set.of(), search);
+        assertEquals(3, searches.get());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testAddedRailInvalidates() {
+        final PathCache cache = new PathCache(grid, 4);
+        cache.getPath(1, 2, Set.of(rail), search);
+        grid.getRailOwnership().add(grid.getEdgeById(1).getId(), player);
+
+        cache.getPath(1, 2, Set.of(rail), search);
+        assertEquals(2, searches.get());
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getInvalidations());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testRemovedRailInvalidates() {
+        final PathCache cache = new PathCache(grid, 4);
+        cache.getPath(1, 2, Set.of(rail), search);
+        rail.removeRail(player);
+
+        cache.getPath(1, 2, Set.of(rail), search);
+        assertEquals(2, searches.get());
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getInvalidations());
+    }
+
+    @Test
+    public void testPathSearchedDuringModificationIsNotCached() {
+        final PathCache cache = new PathCache(grid, 4);
+        cache.getPath(1, 2, Set.of(rail), () -> {
+            rail.removeRail(player);
+            return search.get();
+        });
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPathIsEvicted() {
+        final PathCache cache = new PathCache(grid, 2);
+        cache.getPath(1, 2, Set.of(rail), search);
+        cache.getPath(2, 3, Set.of(rail), search);
+        cache.getPath(1, 2, Set.of(rail), search);
+        cache.getPath(3, 4, Set.of(rail), search);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+
+        // the path from 2 to 3 was evicted, the path from 1 to 2 is still cached
+        cache.getPath(1, 2, Set.of(rail), search);
+        assertEquals(3, searches.get());
+        cache.getPath(2, 3, Set.of(rail), search);
+        assertEquals(4, searches.get());
+    }
+
+    @Test
+    public void testFindDrivingPathUsesCache() {
+        final PathCache cache = grid.getPathCache();
+        cache.invalidateAll();
+        cache.resetCounters();
+        final List<Edge> path = grid.findDrivingPath(rail.getPosition1(), rail.getPosition2(), Set.of(rail));
+        assertEquals(List.of(rail), path);
+        assertSame(path, grid.findDrivingPath(rail.getPosition1(), rail.getPosition2(), Set.of(rail)));
+        assertEquals(1, cache.getHits());
+
+        rail.removeRail(player);
+        assertEquals(List.of(), grid.findDrivingPath(rail.getPosition1(), rail.getPosition2(), Set.of()));
+        assertEquals(1, cache.getInvalidations());
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new PathCache(grid, 0));
+    }
+}
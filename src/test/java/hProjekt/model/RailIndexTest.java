@@ -0,0 +1,98 @@
+package hProjekt.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+
+/**
+ * Compares the {@link RailIndex} of {@link DenseHexGridImpl} with a scan of all
+ * edges while rails are added and removed.
+ */
+public class RailIndexTest {
+
+    private static final int OPERATIONS_PER_GRID = 300;
+
+    @Test
+    public void testSameRailsAsScanWithConsistencyChecks() {
+        for (int seed = 0; seed < 10; seed++) {
+            Config.RANDOM.setSeed(seed);
+            final DenseHexGridImpl grid = new DenseHexGridImpl(3 + seed, 10, Config.TOWN_NAMES);
+            grid.getRailIndex().setConsistencyChecks(true);
+            final Random random = new Random(seed);
+            final List<Player> players = List.of(new TestPlayer(grid, 0), new TestPlayer(grid, 1),
+                    new TestPlayer(grid, 5));
+
+            for (int i = 0; i < OPERATIONS_PER_GRID; i++) {
+                RailOperations.randomOperation(grid, players, random);
+                for (final Player player : players) {
+                    assertEquals(scanRails(grid, player), grid.getRails(player),
+                            String.format("seed %d, operation %d, %s", seed, i, player));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testOwnersPropertyUpdatesIndex() {
+        Config.RANDOM.setSeed(0);
+        final DenseHexGridImpl grid = new DenseHexGridImpl(5, 10, Config.TOWN_NAMES);
+        grid.getRailIndex().setConsistencyChecks(true);
+        final Player first = new TestPlayer(grid, 0);
+        final Player second = new TestPlayer(grid, 1);
+        final Edge edge = grid.getEdgeById(0);
+
+        edge.getRailOwnersProperty().setValue(List.of(first, second));
+        assertEquals(Map.of(edge.getAdjacentTilePositions(), edge), grid.getRails(first));
+        assertEquals(Map.of(edge.getAdjacentTilePositions(), edge), grid.getRails(second));
+
+        edge.getRailOwnersProperty().setValue(List.of(second));
+        assertEquals(Map.of(), grid.getRails(first));
+        assertEquals(List.of(second), edge.getRailOwners());
+
+        edge.removeRail(second);
+        assertEquals(Map.of(), grid.getRails(second));
+        assertEquals(List.of(), edge.getRailOwnersProperty().getValue());
+    }
+
+    @Test
+    public void testOwnersListWritesThrough() {
+        Config.RANDOM.setSeed(0);
+        final DenseHexGridImpl grid = new DenseHexGridImpl(5, 10, Config.TOWN_NAMES);
+        grid.getRailIndex().setConsistencyChecks(true);
+        // the bits are assigned independently of the ids
+        final Player first = new TestPlayer(grid, 100);
+        final Player second = new TestPlayer(grid, -1);
+        final Edge edge = grid.getEdgeById(0);
+
+        edge.getRailOwnersProperty().getValue().add(first);
+        edge.getRailOwners().add(second);
+        assertEquals(List.of(first, second), edge.getRailOwnersProperty().getValue());
+        assertEquals(Map.of(edge.getAdjacentTilePositions(), edge), grid.getRails(second));
+
+        assertTrue(edge.getRailOwnersProperty().getValue().remove(first));
+        assertFalse(edge.getRailOwnersProperty().getValue().remove(first));
+        assertEquals(Map.of(), grid.getRails(first));
+        assertEquals(List.of(second), edge.getRailOwnersProperty().getValue());
+    }
+
+    private static Map<Set<TilePosition>, Edge> scanRails(final HexGrid grid, final Player player) {
+        final Map<Set<TilePosition>, Edge> rails = new HashMap<>();
+        for (final Edge edge : new ArrayList<>(grid.getEdges().values())) {
+            if (edge.getRailOwners().contains(player)) {
+                rails.put(edge.getAdjacentTilePositions(), edge);
+            }
+        }
+        return rails;
+    }
+}
@@ -0,0 +1,53 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds and removes random rails in a {@link DenseHexGridImpl} for the tests of
+ * its indices. Rails are changed through the {@link RailOwnership} of the
+ * grid, so the tests do not depend on {@link EdgeImpl#addRail(Player)}.
+ */
+final class RailOperations {
+
+    private RailOperations() {
+    }
+
+    /**
+     * Builds or removes a random rail of a random player.
+     * Most rails are built next to a rail of the player, so the networks grow
+     * like in a game.
+     *
+     * @param grid    the grid
+     * @param players the players
+     * @param random  the random generator
+     */
+    static void randomOperation(final DenseHexGridImpl grid, final List<Player> players, final Random random) {
+        final Player player = players.get(random.nextInt(players.size()));
+        final List<Edge> rails = new ArrayList<>(grid.getRails(player).values());
+        if (!rails.isEmpty() && random.nextInt(4) == 0) {
+            rails.get(random.nextInt(rails.size())).removeRail(player);
+        } else {
+            grid.getRailOwnership().add(randomEdgeId(grid, rails, random), player);
+        }
+    }
+
+    /**
+     * Returns the id of a random edge, usually one connected to the given rails.
+     *
+     * @param grid   the grid
+     * @param rails  the rails to extend
+     * @param random the random generator
+     * @return the id of the edge
+     */
+    private static int randomEdgeId(final DenseHexGridImpl grid, final List<Edge> rails, final Random random) {
+        if (rails.isEmpty() || random.nextInt(5) == 0) {
+            return random.nextInt(grid.getEdgeCount());
+        }
+        final int railId = rails.get(random.nextInt(rails.size())).getId();
+        final int[] offsets = grid.getLineGraph().getOffsets();
+        final int[] targets = grid.getLineGraph().getTargets();
+        return targets[offsets[railId] + random.nextInt(offsets[railId + 1] - offsets[railId])];
+    }
+}
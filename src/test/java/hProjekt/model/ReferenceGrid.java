@@ -0,0 +1,129 @@
+package hProjekt.model;
+
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import hProjekt.model.TilePosition.EdgeDirection;
+import javafx.beans.value.ObservableDoubleValue;
+
+/**
+ * A {@link HexGridImpl} for the reference computations of the tests.
+ * Its tiles answer the adjacency queries of P1.4 themselves, so the tests do
+ * not depend on the student implementation of {@link TileImpl}.
+ */
+final class ReferenceGrid extends HexGridImpl {
+
+    /**
+     * Creates a new grid with the given scale, see
+     * {@link HexGridImpl#HexGridImpl(int, int, String[])}.
+     *
+     * @param scale          the scale of the grid
+     * @param numberOfCities the number of cities to place
+     * @param names          the names to use for the cities
+     */
+    ReferenceGrid(final int scale, final int numberOfCities, final String[] names) {
+        super(scale, numberOfCities, names);
+    }
+
+    /**
+     * Creates a new grid with the tiles, edges and cities of the given grid.
+     *
+     * @param grid the grid to copy
+     */
+    ReferenceGrid(final HexGrid grid) {
+        super(grid.getTiles(), grid.getEdges(), grid.getCities());
+    }
+
+    @Override
+    public Tile getTileAt(final TilePosition position) {
+        final Tile tile = super.getTileAt(position);
+        return tile == null ? null : new ReferenceTile(tile, this);
+    }
+
+    /**
+     * A tile that looks up its edges and neighbours in the given grid.
+     * Neighbours are returned in the order of {@link EdgeDirection}.
+     *
+     * @param tile the tile to delegate to
+     * @param grid the grid to look up edges and neighbours in
+     */
+    private record ReferenceTile(Tile tile, HexGrid grid) implements Tile {
+
+        @Override
+        public TilePosition getPosition() {
+            return tile.getPosition();
+        }
+
+        @Override
+        public Type getType() {
+            return tile.getType();
+        }
+
+        @Override
+        public ObservableDoubleValue heightProperty() {
+            return tile.heightProperty();
+        }
+
+        @Override
+        public ObservableDoubleValue widthProperty() {
+            return tile.widthProperty();
+        }
+
+        @Override
+        public HexGrid getHexGrid() {
+            return tile.getHexGrid();
+        }
+
+        @Override
+        public Set<Tile> getNeighbours() {
+            return EdgeDirection.stream().map(this::getNeighbour).filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+
+        @Override
+        public Set<Tile> getConnectedNeighbours(final Set<Edge> connectingEdges) {
+            final Set<Tile> neighbours = new LinkedHashSet<>();
+            for (final EdgeDirection direction : EdgeDirection.VALUES) {
+                final Edge edge = getEdge(direction);
+                if (edge != null && connectingEdges.contains(edge)) {
+                    neighbours.add(getNeighbour(direction));
+                }
+            }
+            return neighbours;
+        }
+
+        @Override
+        public Tile getNeighbour(final EdgeDirection direction) {
+            return grid.getTileAt(TilePosition.neighbour(getPosition(), direction));
+        }
+
+        @Override
+        public boolean isAtCoast() {
+            return tile.isAtCoast();
+        }
+
+        @Override
+        public Edge getEdge(final EdgeDirection direction) {
+            return grid.getEdge(getPosition(), TilePosition.neighbour(getPosition(), direction));
+        }
+
+        @Override
+        public Set<Edge> getEdges() {
+            return EdgeDirection.stream().map(this::getEdge).filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+
+        @Override
+        public boolean hasCity() {
+            return tile.hasCity();
+        }
+
+        @Override
+        public Set<Edge> getRails(final Player player) {
+            return getEdges().stream().filter(edge -> edge.getRailOwners().contains(player))
+                    .collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package hProjekt.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+
+/**
+ * Compares {@link RentableEdgeSearch} with the generic search of
+ * {@link hProjekt.controller.PlayerController#getChooseableEdges()} while rails
+ * are added and removed.
+ */
+public class RentableEdgeSearchTest {
+
+    private static final int OPERATIONS_PER_GRID = 300;
+
+    private static final int[] MAX_DISTANCES = {-1, 0, 1, 2, 5, 10};
+
+    @Test
+    public void testSameEdgesAsGenericSearch() {
+        for (int seed = 0; seed < 10; seed++) {
+            Config.RANDOM.setSeed(seed);
+            final DenseHexGridImpl grid = new DenseHexGridImpl(3 + seed, 10, Config.TOWN_NAMES);
+            final Random random = new Random(seed);
+            final List<Player> players = List.of(new TestPlayer(grid, 0), new TestPlayer(grid, 1),
+                    new TestPlayer(grid, 5));
+            final Map<TilePosition, List<Edge>> edgesAt = new HashMap<>();
+            for (final Edge edge : grid.getEdges().values()) {
+                for (final TilePosition position : edge.getAdjacentTilePositions()) {
+                    edgesAt.computeIfAbsent(position, p -> new ArrayList<>()).add(edge);
+                }
+            }
+
+            for (int i = 0; i < OPERATIONS_PER_GRID; i++) {
+                RailOperations.randomOperation(grid, players, random);
+                for (final Player player : players) {
+                    for (final int maxDistance : MAX_DISTANCES) {
+                        assertEquals(search(grid, edgesAt, player, maxDistance),
+                                grid.getRentableEdgeSearch().search(player, maxDistance),
+                                String.format("seed %d, operation %d, %s, max distance %d", seed, i, player,
+                                        maxDistance));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The generic search of {@link hProjekt.controller.PlayerController#getChooseableEdges()}.
+     */
+    private static Set<Edge> search(final HexGrid grid, final Map<TilePosition, List<Edge>> edgesAt,
+            final Player player, final int maxDistance) {
+        final Set<Edge> chooseableEdges = new HashSet<>();
+        for (final Edge edge : grid.getEdges().values()) {
+            if (edge.isRailOwner(player)) {
+                chooseableEdges.addAll(rentableNeighbours(edgesAt, edge, player));
+            }
+        }
+        final List<Edge> edgeQueue = new ArrayList<>(chooseableEdges);
+        final List<Integer> distanceQueue = new ArrayList<>(edgeQueue.stream().map(edge -> 1).toList());
+        while (!edgeQueue.isEmpty()) {
+            final Edge current = edgeQueue.removeFirst();
+            final int newDistance = distanceQueue.removeFirst() + 1;
+            for (final Edge edge : rentableNeighbours(edgesAt, current, player)) {
+                if (!chooseableEdges.contains(edge) && newDistance <= maxDistance) {
+                    edgeQueue.add(edge);
+                    distanceQueue.add(newDistance);
+                    chooseableEdges.add(edge);
+                }
+            }
+        }
+        return chooseableEdges;
+    }
+
+    private static Set<Edge> rentableNeighbours(final Map<TilePosition, List<Edge>> edgesAt, final Edge edge,
+            final Player player) {
+        final Set<Edge> neighbours = new HashSet<>();
+        for (final TilePosition position : edge.getAdjacentTilePositions()) {
+            for (final Edge neighbour : edgesAt.get(position)) {
+                if (neighbour != edge && neighbour.hasRail() && !neighbour.isRailOwner(player)) {
+                    neighbours.add(neighbour);
+                }
+            }
+        }
+        return neighbours;
+    }
+}
@@ -0,0 +1,62 @@
+package hProjekt.model;
+
+import java.util.Map;
+import java.util.Set;
+
+import hProjekt.controller.AiController;
+import javafx.scene.paint.Color;
+
+/**
+ * A minimal {@link Player} for the tests of the model, which does not depend
+ * on {@link PlayerImpl}.
+ *
+ * @param hexGrid the grid the player is on
+ * @param id      the id of the player
+ */
+record TestPlayer(HexGrid hexGrid, int id) implements Player {
+
+    @Override
+    public HexGrid getHexGrid() {
+        return hexGrid;
+    }
+
+    @Override
+    public String getName() {
+        return "Player " + id;
+    }
+
+    @Override
+    public int getID() {
+        return id;
+    }
+
+    @Override
+    public Color getColor() {
+        return null;
+    }
+
+    @Override
+    public Class<? extends AiController> getAiController() {
+        return null;
+    }
+
+    @Override
+    public int getCredits() {
+        return 0;
+    }
+
+    @Override
+    public void addCredits(final int amount) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeCredits(final int amount) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Map<Set<TilePosition>, Edge> getRails() {
+        return hexGrid.getRails(this);
+    }
+}
@@ -0,0 +1,68 @@
+package hProjekt.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that {@link TilePositions} visits the same positions in the same order
+ * as the iteration of {@link TilePosition}.
+ */
+public class TilePositionsTest {
+
+    private static final TilePosition CENTER = new TilePosition(3, -5);
+
+    @Test
+    public void testRingsMatchTilePosition() {
+        for (int radius = 0; radius <= 8; radius++) {
+            final List<TilePosition> expected = new ArrayList<>();
+            TilePosition.forEachRing(CENTER, radius, (position, params) -> !expected.add(position));
+            final List<TilePosition> actual = new ArrayList<>();
+            assertFalse(TilePositions.forEachRing(CENTER.q(), CENTER.r(), radius,
+                    (q, r) -> !actual.add(new TilePosition(q, r))));
+
+            assertEquals(expected, actual, "Ring with radius " + radius);
+            assertEquals(expected.size(), TilePositions.ringSize(radius));
+        }
+    }
+
+    @Test
+    public void testSpiralsMatchTilePosition() {
+        for (int radius = 0; radius <= 8; radius++) {
+            final List<TilePosition> expected = new ArrayList<>();
+            TilePosition.forEachSpiral(CENTER, radius, (position, params) -> !expected.add(position));
+            final List<TilePosition> actual = new ArrayList<>();
+            assertFalse(TilePositions.forEachSpiral(CENTER.q(), CENTER.r(), radius,
+                    (q, r) -> !actual.add(new TilePosition(q, r))));
+
+            assertEquals(expected, actual, "Spiral with radius " + radius);
+            assertEquals(radius == 0 ? 0 : 3 * radius * (radius - 1) + 1, actual.size());
+        }
+    }
+
+    @Test
+    public void testNegativeRadius() {
+        assertFalse(TilePositions.forEachRing(0, 0, -1, (q, r) -> true));
+        assertFalse(TilePositions.forEachSpiral(0, 0, -1, (q, r) -> true));
+        assertEquals(0, TilePositions.ringSize(-1));
+    }
+
+    @Test
+    public void testEarlyExit() {
+        final TilePosition target = new TilePosition(CENTER.q() + 2, CENTER.r() - 1);
+        final List<TilePosition> visited = new ArrayList<>();
+
+        assertTrue(TilePositions.forEachSpiral(CENTER.q(), CENTER.r(), 5, (q, r) -> {
+            visited.add(new TilePosition(q, r));
+            return q == target.q() && r == target.r();
+        }));
+        assertEquals(target, visited.getLast());
+        // the center and the first ring come before the target on the second ring
+        assertTrue(visited.size() > 7 && visited.size() <= 19);
+    }
+}